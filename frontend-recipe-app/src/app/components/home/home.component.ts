@@ -3,7 +3,7 @@ import { CommonModule } from '@angular/common';
 import { Router, RouterModule } from '@angular/router';
 import { RecipeService } from '../../services/recipe.service';
 import { AuthService } from '../../services/auth.service';
-import { Recipe } from '../../models/recipe.model';
+import { RecipeSummary } from '../../models/recipe.model';
 
 @Component({
     selector: 'app-home',
@@ -18,7 +18,7 @@ export class HomeComponent implements OnInit {
     private router = inject(Router);
     private cdr = inject(ChangeDetectorRef);
 
-    publicRecipes: Recipe[] = [];
+    publicRecipes: RecipeSummary[] = [];
     isLoading = true;
     isLoggedIn = false;
 
@@ -43,8 +43,8 @@ export class HomeComponent implements OnInit {
         this.isLoading = true;
 
         this.recipeService.getPublicRecipes().subscribe({
-            next: (recipes) => {
-                this.publicRecipes = recipes || [];
+            next: (page) => {
+                this.publicRecipes = page.items;
                 this.publicRecipes.forEach((recipe, index) => {
                     this.imageLoadingStates[index] = !!recipe.imageUrl;
                 });
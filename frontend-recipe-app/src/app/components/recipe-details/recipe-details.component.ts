@@ -2,7 +2,7 @@ import { ChangeDetectorRef, Component, OnInit, inject } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { ActivatedRoute, Router, RouterModule } from '@angular/router';
 import { RecipeService } from '../../services/recipe.service';
-import { Recipe, RecipeIngredient } from '../../models/recipe.model';
+import { Recipe, RecipeIngredient, RecipeSummary } from '../../models/recipe.model';
 import { FormsModule } from '@angular/forms';
 
 @Component({
@@ -18,7 +18,7 @@ export class RecipeDetailsComponent implements OnInit {
     private recipeService = inject(RecipeService);
     private cdr = inject(ChangeDetectorRef);
     recipe: Recipe | null = null;
-    relatedRecipes: Recipe[] = [];
+    relatedRecipes: RecipeSummary[] = [];
     error: string | null = null;
     currentUser = 'You';
 
@@ -49,8 +49,8 @@ export class RecipeDetailsComponent implements OnInit {
 
     loadRelatedRecipes(): void {
         this.recipeService.getPublicRecipes().subscribe({
-            next: (recipes) => {
-                this.relatedRecipes = recipes
+            next: (page) => {
+                this.relatedRecipes = page.items
                     .filter(r => r.id !== this.recipe?.id)
                     .sort(() => Math.random() - 0.5)
                     .slice(0, 3);
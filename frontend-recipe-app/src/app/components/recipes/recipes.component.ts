@@ -2,9 +2,11 @@ import { ChangeDetectorRef, Component, OnInit, inject } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule, ReactiveFormsModule, FormBuilder, FormGroup, FormArray, Validators } from '@angular/forms';
 import { Router, RouterModule } from '@angular/router';
+import { Observable, Subject, of } from 'rxjs';
+import { catchError, debounceTime, switchMap } from 'rxjs/operators';
 import { RecipeService } from '../../services/recipe.service';
 import { AuthService } from '../../services/auth.service';
-import { Recipe, RecipeIngredient } from '../../models/recipe.model';
+import { RecipeIngredient, RecipePage, RecipeSummary } from '../../models/recipe.model';
 
 @Component({
   selector: 'app-recipes',
@@ -20,13 +22,19 @@ export class RecipesComponent implements OnInit {
   private fb = inject(FormBuilder);
   private cdr = inject(ChangeDetectorRef);
 
-  recipes: Recipe[] = [];
-  filteredRecipes: Recipe[] = [];
+  recipes: RecipeSummary[] = [];
+  filteredRecipes: RecipeSummary[] = [];
+  nextCursor: string | null = null;
+  isLoadingMore = false;
+  private listSource: 'all' | 'public' | 'mine' = 'public';
   isLoggedIn = false;
   showDeleteConfirmation = false;
-  recipeToDelete: Recipe | null = null;
+  recipeToDelete: RecipeSummary | null = null;
   isDeleting = false;
   searchQuery = '';
+  searchResults: RecipeSummary[] | null = null;
+  searchCursor: string | null = null;
+  private searchTerms = new Subject<string>();
   selectedDifficulty = 'all';
   sortBy = 'newest';
 
@@ -61,6 +69,34 @@ export class RecipesComponent implements OnInit {
     this.loadRecipes();
     this.currentUser = this.authService.getUserId();
 
+    this.searchTerms.pipe(
+      debounceTime(300),
+      switchMap(query => this.search(query))
+    ).subscribe(page => {
+      this.searchResults = page ? page.items : null;
+      this.searchCursor = page ? page.nextCursor : null;
+      this.filterRecipes();
+      this.cdr.detectChanges();
+    });
+  }
+
+  onSearchChange(): void {
+    this.searchResults = null;
+    this.searchCursor = null;
+    this.filterRecipes();
+    this.searchTerms.next(this.searchQuery.trim());
+  }
+
+  private search(query: string): Observable<RecipePage<RecipeSummary> | null> {
+    if (!query) {
+      return of(null);
+    }
+    return this.recipeService.searchRecipes(query).pipe(
+      catchError(error => {
+        console.error('Error searching recipes:', error);
+        return of(null);
+      })
+    );
   }
 
   get ingredientsArray(): FormArray {
@@ -76,39 +112,109 @@ export class RecipesComponent implements OnInit {
   }
 
   loadRecipes(): void {
-    this.cdr.detectChanges();
+    this.listSource = this.isLoggedIn ? 'all' : 'public';
+    this.loadFirstPage();
+  }
+
+  // The list endpoints return one page at a time; further pages are appended by loadMore().
+  private fetchPage(cursor: string | null): Observable<RecipePage<RecipeSummary>> {
+    switch (this.listSource) {
+      case 'all':
+        return this.recipeService.getAllRecipes(cursor);
+      case 'mine':
+        return this.recipeService.getMyRecipes(cursor);
+      default:
+        return this.recipeService.getPublicRecipes(cursor);
+    }
+  }
 
-    if (this.isLoggedIn) {
-      this.recipeService.getAllRecipes().subscribe({
-        next: (recipes) => {
-          this.recipes = recipes.reverse();
-          this.filterRecipes();
-          this.cdr.detectChanges();
-        },
-        error: (error) => {
-          console.error('Error loading recipes:', error);
-          this.cdr.detectChanges();
-        }
-      });
-    } else {
-      this.recipeService.getPublicRecipes().subscribe({
-        next: (recipes) => {
-          this.recipes = recipes;
-          this.filterRecipes();
-          this.cdr.detectChanges();
-        },
-        error: (error) => {
-          console.error('Error loading public recipes:', error);
+  private loadFirstPage(): void {
+    this.fetchPage(null).subscribe({
+      next: (page) => {
+        this.recipes = page.items;
+        this.nextCursor = page.nextCursor;
+        this.filterRecipes();
+        this.cdr.detectChanges();
+      },
+      error: (error) => {
+        console.error('Error loading recipes:', error);
+        this.cdr.detectChanges();
+      }
+    });
+  }
+
+  get isShowingSearchResults(): boolean {
+    return !!this.searchQuery && this.searchResults !== null;
+  }
+
+  get hasMore(): boolean {
+    return (this.isShowingSearchResults ? this.searchCursor : this.nextCursor) !== null;
+  }
+
+  get loadedCount(): number {
+    return this.isShowingSearchResults ? this.searchResults!.length : this.recipes.length;
+  }
+
+  loadMore(): void {
+    if (this.isShowingSearchResults) {
+      this.loadMoreSearchResults();
+      return;
+    }
+    if (!this.nextCursor || this.isLoadingMore) return;
+
+    this.isLoadingMore = true;
+    const page = this.currentPage;
+    this.fetchPage(this.nextCursor).subscribe({
+      next: (next) => {
+        this.recipes = [...this.recipes, ...next.items];
+        this.nextCursor = next.nextCursor;
+        this.isLoadingMore = false;
+        this.filterRecipes();
+        this.currentPage = Math.min(page, this.totalPages);
+        this.cdr.detectChanges();
+      },
+      error: (error) => {
+        console.error('Error loading more recipes:', error);
+        this.isLoadingMore = false;
+        this.cdr.detectChanges();
+      }
+    });
+  }
+
+  private loadMoreSearchResults(): void {
+    if (!this.searchCursor || this.isLoadingMore) return;
+
+    this.isLoadingMore = true;
+    const query = this.searchQuery.trim();
+    const page = this.currentPage;
+    this.recipeService.searchRecipes(query, this.searchCursor).subscribe({
+      next: (next) => {
+        this.isLoadingMore = false;
+        // A new search started while this page was in flight; its results replace these.
+        if (query !== this.searchQuery.trim() || this.searchResults === null) {
           this.cdr.detectChanges();
+          return;
         }
-      });
-    }
+        this.searchResults = [...this.searchResults, ...next.items];
+        this.searchCursor = next.nextCursor;
+        this.filterRecipes();
+        this.currentPage = Math.min(page, this.totalPages);
+        this.cdr.detectChanges();
+      },
+      error: (error) => {
+        console.error('Error loading more search results:', error);
+        this.isLoadingMore = false;
+        this.cdr.detectChanges();
+      }
+    });
   }
 
   filterRecipes(): void {
-    let filtered = [...this.recipes];
+    // Server-side search results replace the local list once they arrive and loadMore() pages through
+    // them; until then (or if the search fails) the recipes loaded so far are filtered in the browser.
+    let filtered = [...(this.isShowingSearchResults ? this.searchResults! : this.recipes)];
 
-    if (this.searchQuery) {
+    if (this.searchQuery && !this.searchResults) {
       const query = this.searchQuery.toLowerCase();
       filtered = filtered.filter(recipe =>
         recipe.title.toLowerCase().includes(query) ||
@@ -126,6 +232,7 @@ export class RecipesComponent implements OnInit {
     this.currentPage = 1;
   }
 
+  // The list is paged by cursor, so these counts cover only the pages loaded so far.
   get totalRecipes(): number {
     return this.recipes.length;
   }
@@ -173,26 +280,15 @@ export class RecipesComponent implements OnInit {
     this.router.navigate(['/recipes', recipeId]);
   }
 
-  saveRecipe(event: Event, recipe: Recipe): void {
+  saveRecipe(event: Event, recipe: RecipeSummary): void {
     event.stopPropagation();
     console.log('Saving recipe:', recipe.title);
   }
 
   showMyRecipes(): void {
     if (this.isLoggedIn) {
-      this.recipeService.getMyRecipes().subscribe({
-        next: (recipes) => {
-          this.recipes = recipes;
-          this.filterRecipes();
-          this.cdr.detectChanges();
-
-        },
-        error: (error) => {
-          console.error('Error loading my recipes:', error);
-          this.cdr.detectChanges();
-
-        }
-      });
+      this.listSource = 'mine';
+      this.loadFirstPage();
     }
   }
 
@@ -315,12 +411,12 @@ export class RecipesComponent implements OnInit {
       }
     });
   }
-  canDeleteRecipe(recipe: Recipe): boolean {
+  canDeleteRecipe(recipe: RecipeSummary): boolean {
     if (!this.isLoggedIn || !this.currentUser) return false;
     return recipe.userId === this.currentUser;
   }
 
-  openDeleteConfirmation(event: Event, recipe: Recipe): void {
+  openDeleteConfirmation(event: Event, recipe: RecipeSummary): void {
     event.stopPropagation();
     if (!this.canDeleteRecipe(recipe)) return;
 
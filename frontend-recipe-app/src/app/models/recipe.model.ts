@@ -20,6 +20,18 @@ export interface Recipe {
   ratingCount: number;
 }
 
+// List endpoints return summaries: the scalar recipe fields plus an ingredient count, without the
+// ingredient and instruction collections.
+export type RecipeSummary = Omit<Recipe, 'ingredients' | 'instructions'> & {
+  ingredientCount: number;
+};
+
+// One page of a cursor-paged list; nextCursor is null on the last page.
+export interface RecipePage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
 export interface CreateRecipeRequest {
   title: string;
   description: string;
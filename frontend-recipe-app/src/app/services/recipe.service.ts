@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpResponse } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Recipe, CreateRecipeRequest } from '../models/recipe.model';
+import { map } from 'rxjs/operators';
+import { Recipe, RecipeSummary, RecipePage, CreateRecipeRequest } from '../models/recipe.model';
 import { AuthService } from './auth.service';
 
 @Injectable({
@@ -35,19 +36,61 @@ export class RecipeService {
     });
   }
 
-  getAllRecipes(): Observable<Recipe[]> {
-    return this.http.get<Recipe[]>(`${this.apiUrl}/api/recipes/all`, {
-      headers: this.getHeaders()
+  // List endpoints are cursor-paged: each response carries the cursor of the next page in the
+  // X-Next-Cursor header, which is absent on the last page.
+  private toPage<T>(response: HttpResponse<T[]>): RecipePage<T> {
+    return {
+      items: response.body ?? [],
+      nextCursor: response.headers.get('X-Next-Cursor')
+    };
+  }
+
+  private pageParams(cursor?: string | null): Record<string, string> {
+    return cursor ? { cursor } : {};
+  }
+
+  getAllRecipes(cursor?: string | null): Observable<RecipePage<RecipeSummary>> {
+    return this.http.get<RecipeSummary[]>(`${this.apiUrl}/api/recipes/all`, {
+      headers: this.getHeaders(),
+      params: this.pageParams(cursor),
+      observe: 'response'
+    }).pipe(map(response => this.toPage(response)));
+  }
+
+  getPublicRecipes(cursor?: string | null): Observable<RecipePage<RecipeSummary>> {
+    return this.http.get<RecipeSummary[]>(`${this.apiUrl}/api/recipes/public`, {
+      params: this.pageParams(cursor),
+      observe: 'response'
+    }).pipe(map(response => this.toPage(response)));
+  }
+
+  getTrendingRecipes(limit = 10): Observable<Recipe[]> {
+    return this.http.get<Recipe[]>(`${this.apiUrl}/api/recipes/trending`, {
+      params: { limit }
     });
   }
 
-  getPublicRecipes(): Observable<Recipe[]> {
-    return this.http.get<Recipe[]>(`${this.apiUrl}/api/recipes/public`);
+  // Search is open to anonymous users; the identity headers only widen it to their own private recipes.
+  searchRecipes(query: string, cursor?: string | null): Observable<RecipePage<RecipeSummary>> {
+    return this.http.get<RecipeSummary[]>(`${this.apiUrl}/api/recipes/search`, {
+      headers: this.authService.isAuthenticated() ? this.getHeaders() : {},
+      params: { q: query, ...this.pageParams(cursor) },
+      observe: 'response'
+    }).pipe(map(response => this.toPage(response)));
   }
 
-  getMyRecipes(): Observable<Recipe[]> {
-    return this.http.get<Recipe[]>(`${this.apiUrl}/api/recipes/my-recipes`, {
-      headers: this.getHeaders()
+  getMyRecipes(cursor?: string | null): Observable<RecipePage<RecipeSummary>> {
+    return this.http.get<RecipeSummary[]>(`${this.apiUrl}/api/recipes/my-recipes`, {
+      headers: this.getHeaders(),
+      params: this.pageParams(cursor),
+      observe: 'response'
+    }).pipe(map(response => this.toPage(response)));
+  }
+
+  getRecipesByIds(ids: number[]): Observable<Recipe[]> {
+    return this.http.get<Recipe[]>(`${this.apiUrl}/api/recipes/batch`, {
+      headers: this.getHeaders(),
+      params: { ids: ids.join(',') }
     });
   }
 
@@ -7,6 +7,8 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.recipe.pantry_service.dto.AddPantryItemRequest;
 import com.recipe.pantry_service.dto.PantryItemResponse;
@@ -24,9 +26,13 @@ public class PantryService {
     @Autowired
     private PantryMapper pantryMapper;
     
+    @Autowired
+    private RecipeServiceClient recipeServiceClient;
+    
     public PantryItemResponse addItem(String userId, AddPantryItemRequest request) {
         PantryItem item = pantryMapper.toEntity(request, userId);
         PantryItem savedItem = pantryRepository.save(item);
+        notifyPantryChangedAfterCommit(userId);
         return pantryMapper.toResponse(savedItem);
     }
     
@@ -58,15 +64,30 @@ public class PantryService {
 
         pantryMapper.updateEntityFromRequest(request, item);
         PantryItem updatedItem = pantryRepository.save(item);
+        notifyPantryChangedAfterCommit(userId);
         return pantryMapper.toResponse(updatedItem);
     }
     public void deletePantry(Long id, String userId) {
         PantryItem pantry = pantryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new RuntimeException("Pantry not found or you don't have permission to delete it"));
         pantryRepository.delete(pantry);
+        notifyPantryChangedAfterCommit(userId);
     }
 
-
+    // The notification is a blocking HTTP call; sending it after commit keeps it out of the transaction
+    // (and its connection) and means recipe-service never refetches a pantry that is then rolled back.
+    private void notifyPantryChangedAfterCommit(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recipeServiceClient.notifyPantryChanged(userId);
+                }
+            });
+        } else {
+            recipeServiceClient.notifyPantryChanged(userId);
+        }
+    }
 }
 
   
@@ -0,0 +1,42 @@
+package com.recipe.pantry_service.service;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+@Service
+public class RecipeServiceClient {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RecipeServiceClient.class);
+    
+    private final RestClient restClient;
+    
+    public RecipeServiceClient(@Value("${recipe.service.url}") String recipeServiceUrl) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(1));
+        requestFactory.setReadTimeout(Duration.ofSeconds(2));
+        this.restClient = RestClient.builder()
+                .baseUrl(recipeServiceUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+    
+    // recipe-service caches pantry snapshots per user; a failed notification only means that cache
+    // serves the old pantry until its TTL expires, so errors are logged and swallowed.
+    public void notifyPantryChanged(String userId) {
+        try {
+            restClient.post()
+                    .uri("/api/recipes/pantry-changed")
+                    .header("User-Id", userId)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            logger.warn("Could not notify recipe-service of pantry change for user {}: {}", userId, e.getMessage());
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -29,6 +31,9 @@ public class PantryServiceTest {
     @Mock
     private PantryMapper pantryMapper;
 
+    @Mock
+    private RecipeServiceClient recipeServiceClient;
+
     @InjectMocks
     private PantryService pantryService;
 
@@ -75,6 +80,26 @@ public class PantryServiceTest {
         verify(pantryMapper).toEntity(testAddRequest, USER_ID);
         verify(pantryRepository).save(testPantryItem);
         verify(pantryMapper).toResponse(testPantryItem);
+        verify(recipeServiceClient).notifyPantryChanged(USER_ID);
+    }
+
+    @Test
+    void addItem_InTransaction_NotifiesRecipeServiceAfterCommit() {
+        when(pantryMapper.toEntity(testAddRequest, USER_ID)).thenReturn(testPantryItem);
+        when(pantryRepository.save(testPantryItem)).thenReturn(testPantryItem);
+        when(pantryMapper.toResponse(testPantryItem)).thenReturn(testPantryItemResponse);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pantryService.addItem(USER_ID, testAddRequest);
+            verify(recipeServiceClient, never()).notifyPantryChanged(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(recipeServiceClient).notifyPantryChanged(USER_ID);
     }
 
     @Test
@@ -188,6 +213,7 @@ public class PantryServiceTest {
         verify(pantryMapper).updateEntityFromRequest(updateRequest, testPantryItem);
         verify(pantryRepository).save(testPantryItem);
         verify(pantryMapper).toResponse(testPantryItem);
+        verify(recipeServiceClient).notifyPantryChanged(USER_ID);
     }
 
     @Test
@@ -201,5 +227,6 @@ public class PantryServiceTest {
         verify(pantryRepository).findByIdAndUserId(1L, USER_ID);
         verify(pantryMapper, never()).updateEntityFromRequest(any(), any());
         verify(pantryRepository, never()).save(any());
+        verify(recipeServiceClient, never()).notifyPantryChanged(any());
     }
 }
\ No newline at end of file
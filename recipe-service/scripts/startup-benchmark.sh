@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Measures recipe-service time-to-ready: launches the packaged jar RUNS times and records the wall-clock
+# time until /actuator/health/readiness reports UP. Needs a reachable database, configured through the
+# usual SPRING_DATASOURCE_* variables.
+#
+#   mvn -q package -DskipTests && scripts/startup-benchmark.sh
+#   RUNS=10 SPRING_PROFILES_ACTIVE=sample-data scripts/startup-benchmark.sh
+#
+# After the last run, the ten slowest startup steps are printed from /actuator/startup (requires jq).
+set -euo pipefail
+
+JAR="${JAR:-target/recipe-service-0.0.1-SNAPSHOT.jar}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8083}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+READY_URL="http://localhost:${PORT}/actuator/health/readiness"
+
+if [[ ! -f "$JAR" ]]; then
+    echo "Jar not found: $JAR (build it with mvn package)" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+timings=()
+for run in $(seq 1 "$RUNS"); do
+    log="$(mktemp)"
+    start=$(now_ms)
+    java ${JAVA_OPTS:-} -jar "$JAR" --server.port="$PORT" >"$log" 2>&1 &
+    pid=$!
+
+    ready=""
+    while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Run $run: service exited before becoming ready, log: $log" >&2
+            exit 1
+        fi
+        if curl -fs "$READY_URL" 2>/dev/null | grep -q '"UP"'; then
+            ready=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.1
+    done
+
+    if [[ -z "$ready" ]]; then
+        kill "$pid" 2>/dev/null || true
+        echo "Run $run: not ready after ${TIMEOUT_SECONDS}s, log: $log" >&2
+        exit 1
+    fi
+
+    started=$(grep -o 'Started RecipeServiceApplication in [0-9.]* seconds' "$log" || true)
+    echo "Run $run: ready in ${ready} ms${started:+ (${started})}"
+    timings+=("$ready")
+
+    if (( run == RUNS )) && command -v jq >/dev/null; then
+        echo "Slowest startup steps (ms):"
+        curl -fs "http://localhost:${PORT}/actuator/startup" \
+            | jq -r '.timeline.events
+                | map({name: .startupStep.name,
+                       tags: ([.startupStep.tags[]? | .value] | join(" ")),
+                       ms: ((.duration | sub("^PT"; "") | sub("S$"; "") | tonumber) * 1000 | floor)})
+                | sort_by(-.ms) | .[:10][] | "\(.ms)\t\(.name) \(.tags)"'
+    fi
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+done
+
+sorted=($(printf '%s\n' "${timings[@]}" | sort -n))
+count=${#sorted[@]}
+echo "Runs: $count  min: ${sorted[0]} ms  median: ${sorted[$(( count / 2 ))]} ms  max: ${sorted[$(( count - 1 ))]} ms"
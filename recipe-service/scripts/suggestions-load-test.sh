@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread request handling under concurrent suggestion load. For each
+# mode the packaged jar is started, /api/recipes/suggestions is driven with `hey` at CONCURRENCY
+# connections for DURATION, and throughput, latency percentiles, error responses, peak JVM threads and
+# pinned virtual threads are written to a Markdown report.
+#
+# Needs the database and pantry-service the service normally talks to (the docker-compose stack with the
+# sample-data profile works), plus hey (https://github.com/rakyll/hey) and curl. The pantry cache is
+# disabled by default so every request makes the two blocking pantry-service calls.
+#
+#   mvn -q package -DskipTests && scripts/suggestions-load-test.sh
+#   CONCURRENCY=5000 DURATION=60s TOMCAT_THREADS=200 scripts/suggestions-load-test.sh
+set -euo pipefail
+
+JAR="${JAR:-target/recipe-service-0.0.1-SNAPSHOT.jar}"
+PORT="${PORT:-8083}"
+CONCURRENCY="${CONCURRENCY:-2000}"
+DURATION="${DURATION:-30s}"
+TOMCAT_THREADS="${TOMCAT_THREADS:-200}"
+PANTRY_CACHE_TTL="${PANTRY_CACHE_TTL:-0}"
+USER_ID="${USER_ID:-user1}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+REPORT="${REPORT:-load-test-report.md}"
+BASE_URL="http://localhost:${PORT}"
+
+for tool in hey curl; do
+    if ! command -v "$tool" >/dev/null; then
+        echo "$tool is required" >&2
+        exit 1
+    fi
+done
+if [[ ! -f "$JAR" ]]; then
+    echo "Jar not found: $JAR (build it with mvn package)" >&2
+    exit 1
+fi
+
+metric() {
+    curl -fs "${BASE_URL}/actuator/prometheus" | awk -v name="$1" '$1 ~ "^"name"([{]|$)" { print int($2); exit }'
+}
+
+run_mode() {
+    local mode=$1 virtual=$2
+    local log result
+    log="$(mktemp)"
+    result="$(mktemp)"
+
+    # Java 21 logs a stack trace whenever a virtual thread blocks while pinned to its carrier.
+    java ${JAVA_OPTS:-} -Djdk.tracePinnedThreads=short -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" \
+        --server.tomcat.threads.max="$TOMCAT_THREADS" \
+        --pantry.cache.ttl-seconds="$PANTRY_CACHE_TTL" >"$log" 2>&1 &
+    local pid=$!
+
+    local waited=0
+    until curl -fs "${BASE_URL}/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null || (( waited >= TIMEOUT_SECONDS )); then
+            kill "$pid" 2>/dev/null || true
+            echo "$mode: service did not become ready, log: $log" >&2
+            exit 1
+        fi
+        sleep 1
+        waited=$(( waited + 1 ))
+    done
+
+    echo "$mode: warming up" >&2
+    hey -n 2000 -c 50 -H "User-Id: ${USER_ID}" "${BASE_URL}/api/recipes/suggestions" >/dev/null
+    echo "$mode: ${CONCURRENCY} connections for ${DURATION}" >&2
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "User-Id: ${USER_ID}" "${BASE_URL}/api/recipes/suggestions" >"$result"
+
+    local rps p50 p99 errors peak pinned
+    rps=$(awk '/Requests\/sec:/ { printf "%.0f", $2 }' "$result")
+    p50=$(awk '/ 50%+ in / { printf "%.1f", $3 * 1000 }' "$result")
+    p99=$(awk '/ 99%+ in / { printf "%.1f", $3 * 1000 }' "$result")
+    # Non-2xx responses plus transport errors (timeouts, refused connections).
+    errors=$(awk '/^Status code distribution:/ { section = "status"; next }
+                  /^Error distribution:/ { section = "error"; next }
+                  /^ *\[[0-9]+\]/ { n = substr($1, 2, length($1) - 2)
+                                     if (section == "status" && n !~ /^2/) sum += $2
+                                     if (section == "error") sum += n }
+                  END { print sum + 0 }' "$result")
+    peak=$(metric jvm_threads_peak_threads)
+    pinned=$(grep -c '<== monitors' "$log" || true)
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log" "$result"
+
+    echo "| ${mode} | ${CONCURRENCY} | ${rps} | ${p50} | ${p99} | ${errors} | ${peak} | ${pinned} |"
+}
+
+platform=$(run_mode platform false)
+virtual=$(run_mode virtual true)
+
+{
+    echo "# recipe-service suggestion load test"
+    echo
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ), $(java -version 2>&1 | head -1), $(nproc) CPUs, duration ${DURATION}, Tomcat max threads ${TOMCAT_THREADS}, pantry cache TTL ${PANTRY_CACHE_TTL}s."
+    echo
+    echo "| Mode | Connections | Requests/s | p50 (ms) | p99 (ms) | Errors | Peak JVM threads | Pinned events |"
+    echo "|------|-------------|------------|----------|----------|--------|------------------|---------------|"
+    echo "$platform"
+    echo "$virtual"
+} >"$REPORT"
+cat "$REPORT"
@@ -0,0 +1,77 @@
+package com.recipe.recipe_service.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.util.IngredientNames;
+
+/**
+ * Deterministic catalogs and pantries for the benchmarks. Ingredient popularity is skewed the way real
+ * recipes are: a few staples appear in most recipes, the long tail in very few.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 42L;
+    public static final String USER_ID = "bench-user";
+
+    private static final String[] STAPLES = {
+            "salt", "olive oil", "garlic", "onion", "butter", "egg", "flour", "sugar", "milk", "black pepper",
+            "tomato", "lemon", "water", "parsley", "carrot", "potato", "chicken breast", "rice", "pasta",
+            "cheese", "basil", "cream", "soy sauce", "ginger", "honey", "cumin", "paprika", "bell pepper",
+            "spinach", "mushroom", "yogurt", "chili flakes", "vinegar", "cinnamon", "oregano", "thyme",
+            "bread crumbs", "coconut milk", "cilantro", "scallion"
+    };
+
+    private BenchmarkData() {}
+
+    public static List<String> vocabulary(int size) {
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(i < STAPLES.length ? STAPLES[i] : "ingredient " + i);
+        }
+        return names;
+    }
+
+    public static List<Recipe> catalog(int recipes, int vocabularySize) {
+        Random random = new Random(SEED);
+        List<String> vocabulary = vocabulary(vocabularySize);
+        List<Recipe> catalog = new ArrayList<>(recipes);
+        for (int i = 0; i < recipes; i++) {
+            Visibility visibility = random.nextInt(10) == 0 ? Visibility.PRIVATE : Visibility.PUBLIC;
+            Recipe recipe = new Recipe("user" + random.nextInt(1000), "Recipe " + i,
+                    "A benchmark recipe with a description of typical length", 5 + random.nextInt(90),
+                    1 + random.nextInt(6), "EASY", visibility);
+            recipe.setId((long) i + 1);
+            recipe.setImageUrl("https://images.example.com/recipes/" + i + ".jpg");
+            int ingredientCount = 4 + random.nextInt(11);
+            for (String name : pick(random, vocabulary, ingredientCount)) {
+                recipe.addIngredient(name, 1.0 + random.nextInt(500), "grams");
+            }
+            int steps = 3 + random.nextInt(6);
+            for (int step = 0; step < steps; step++) {
+                recipe.addInstruction("Step " + (step + 1) + ": combine, stir and cook until done");
+            }
+            catalog.add(recipe);
+        }
+        return catalog;
+    }
+
+    // Normalized, as RecipeService passes pantry names to the index and the scorer.
+    public static Set<String> pantry(int size, int vocabularySize, long seed) {
+        return Set.copyOf(IngredientNames.normalizeAll(pick(new Random(seed), vocabulary(vocabularySize), size)));
+    }
+
+    private static Set<String> pick(Random random, List<String> vocabulary, int count) {
+        Set<String> picked = new LinkedHashSet<>();
+        while (picked.size() < Math.min(count, vocabulary.size())) {
+            double skewed = Math.pow(random.nextDouble(), 3);
+            picked.add(vocabulary.get((int) (skewed * vocabulary.size())));
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,63 @@
+package com.recipe.recipe_service.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.recipe.recipe_service.benchmark.BenchmarkData;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.mapper.RecipeMapperImpl;
+
+import tools.jackson.databind.ObjectMapper;
+
+// Response body serialization for a list page, in both the full and the summary view.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<RecipeResponseDTO> fullPage;
+    private List<RecipeSummaryDTO> summaryPage;
+
+    @Setup
+    public void setUp() {
+        RecipeMapper recipeMapper = new RecipeMapperImpl();
+        List<Recipe> recipes = BenchmarkData.catalog(pageSize, 2000);
+        fullPage = recipes.stream().map(recipeMapper::toResponseDTO).toList();
+        summaryPage = recipes.stream()
+                .map(recipe -> new RecipeSummaryDTO(recipe.getId(), recipe.getTitle(), recipe.getDescription(),
+                        recipe.getImageUrl(), recipe.getPreparationTime(), recipe.getServings(),
+                        recipe.getDifficulty(), recipe.getUserId(), recipe.getVisibility(), recipe.getRating(),
+                        recipe.getRatingCount(), recipe.getIngredients().size(), recipe.getVersion()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] fullView() {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] summaryView() {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,54 @@
+package com.recipe.recipe_service.mapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.recipe.recipe_service.benchmark.BenchmarkData;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Recipe;
+
+// MapStruct entity-to-DTO mapping, alone and over a page the way RecipeService.toPage does it.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeMapperBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private final RecipeMapper recipeMapper = new RecipeMapperImpl();
+    private List<Recipe> page;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.catalog(pageSize, 2000);
+    }
+
+    @Benchmark
+    public RecipeResponseDTO toResponseDTO() {
+        return recipeMapper.toResponseDTO(page.get(0));
+    }
+
+    @Benchmark
+    public List<RecipeResponseDTO> toResponsePage() {
+        return page.stream()
+                .map(recipeMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+}
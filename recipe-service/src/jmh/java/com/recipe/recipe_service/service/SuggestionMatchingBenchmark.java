@@ -0,0 +1,94 @@
+package com.recipe.recipe_service.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.recipe.recipe_service.benchmark.BenchmarkData;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.mapper.RecipeMapperImpl;
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+import com.recipe.recipe_service.service.RecipeMatchScorer.RecipeMatch;
+
+/**
+ * The in-memory part of a suggestion request: candidate lookup in the ingredient index, top-k scoring
+ * and mapping of the winners, as in RecipeService.rankRecipes with the database load replaced by a map.
+ * {@code fullScan} scores the whole catalog, which is what the fallback path costs before the index is
+ * ready.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestionMatchingBenchmark {
+
+    private static final int VOCABULARY_SIZE = 2000;
+    private static final int TOP_K = 20;
+
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    @Param({"15", "60"})
+    public int pantrySize;
+
+    private final RecipeIngredientIndex index = new RecipeIngredientIndex();
+    private final RecipeMatchScorer scorer = new RecipeMatchScorer();
+    private final RecipeMapper recipeMapper = new RecipeMapperImpl();
+
+    private Map<Long, Recipe> recipesById;
+    private List<IndexedRecipe> indexedCatalog;
+    private List<String> pantryNames;
+    private Set<String> pantry;
+    private Set<String> expiring;
+
+    @Setup
+    public void setUp() {
+        List<Recipe> catalog = BenchmarkData.catalog(catalogSize, VOCABULARY_SIZE);
+        catalog.forEach(index::index);
+        recipesById = new HashMap<>();
+        catalog.forEach(recipe -> recipesById.put(recipe.getId(), recipe));
+        indexedCatalog = catalog.stream().map(IndexedRecipe::of).toList();
+        pantry = BenchmarkData.pantry(pantrySize, VOCABULARY_SIZE, BenchmarkData.SEED + 1);
+        pantryNames = List.copyOf(pantry);
+        expiring = pantry.stream().limit(Math.max(1, pantrySize / 5)).collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public List<RecipeMatch> indexedTopMatches() {
+        return scorer.topMatches(index.findVisibleRecipes(pantryNames, BenchmarkData.USER_ID), pantry, expiring, TOP_K);
+    }
+
+    @Benchmark
+    public List<RecipeResponseDTO> indexedSuggestions() {
+        return indexedTopMatches().stream()
+                .map(match -> recipesById.get(match.recipeId()))
+                .filter(Objects::nonNull)
+                .map(recipeMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<RecipeMatch> fullScan() {
+        return scorer.topMatches(indexedCatalog, pantry, expiring, TOP_K);
+    }
+}
@@ -0,0 +1,77 @@
+package com.recipe.recipe_service.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions to a pool of streaming replicas and everything else to the primary.
+ * Only active when {@code recipe.datasource.replica-urls} is set; otherwise Boot's single pool is used.
+ *
+ * <p>Routing happens in {@link LazyConnectionDataSourceProxy}: the JPA transaction manager marks the
+ * connection read-only for {@code @Transactional(readOnly = true)}, and the proxy only fetches the real
+ * connection at the first statement, from the replicas if that flag is set. Schema initialization,
+ * writes and non-transactional JDBC calls stay on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.datasource.replica-urls")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("recipe-primary");
+        return dataSource;
+    }
+
+    // Replicas share the primary's credentials and pool settings.
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                     @Value("${recipe.datasource.replica-urls}") List<String> replicaUrls,
+                                                     @Value("${recipe.datasource.replica-pool-size:0}") int replicaPoolSize,
+                                                     MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            // Pools start on first use, like the primary, so a replica that is still catching up does not
+            // block startup.
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName("recipe-replica-" + (replicas.size() + 1));
+            replica.setReadOnly(true);
+            if (replicaPoolSize > 0) {
+                replica.setMaximumPoolSize(replicaPoolSize);
+            }
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package com.recipe.recipe_service.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Hands out connections from the replica pools in turn.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(List<HikariDataSource> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
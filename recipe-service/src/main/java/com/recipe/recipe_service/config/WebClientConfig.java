@@ -0,0 +1,28 @@
+package com.recipe.recipe_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfig {
+    
+    @Value("${pantry.service.url}")
+    private String pantryServiceUrl;
+    
+    @Bean
+    public WebClient.Builder webClientBuilder() {
+        return WebClient.builder();
+    }
+    
+    @Bean
+    public WebClient pantryServiceWebClient(WebClient.Builder builder) {
+        return builder.clone().baseUrl(pantryServiceUrl).build();
+    }
+    
+    @Bean
+    public WebClient recipeChangeWebClient(WebClient.Builder builder) {
+        return builder.clone().build();
+    }
+}
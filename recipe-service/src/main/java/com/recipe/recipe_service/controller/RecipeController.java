@@ -1,8 +1,13 @@
 package com.recipe.recipe_service.controller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,83 +17,283 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.recipe.recipe_service.dto.BulkImportResponseDTO;
 import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.CursorPageDTO;
+import com.recipe.recipe_service.dto.RateRecipeRequestDTO;
 import com.recipe.recipe_service.dto.RecipeResponseDTO;
 import com.recipe.recipe_service.dto.UpdateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.VersionedRecipe;
+import com.recipe.recipe_service.service.RecipeExportService;
+import com.recipe.recipe_service.service.RecipeImportService;
+import com.recipe.recipe_service.service.RecipeRatingService;
 import com.recipe.recipe_service.service.RecipeService;
+import com.recipe.recipe_service.service.RecipeSuggestionStreams;
+import com.recipe.recipe_service.service.TrendingRecipes;
+import com.recipe.recipe_service.util.ETags;
+
+import jakarta.persistence.OptimisticLockException;
 
 @RestController
 @RequestMapping("/api/recipes")
 public class RecipeController {
     
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String VIEW_SUMMARY = "summary";
+    static final String VIEW_FULL = "full";
+    static final int MAX_UPDATE_ATTEMPTS = 3;
+    
     @Autowired
     private RecipeService recipeService;
     
+    @Autowired
+    private RecipeExportService recipeExportService;
+    
+    @Autowired
+    private RecipeImportService recipeImportService;
+    
+    @Autowired
+    private RecipeRatingService recipeRatingService;
+    
+    @Autowired
+    private RecipeSuggestionStreams recipeSuggestionStreams;
+    
+    @Autowired
+    private TrendingRecipes trendingRecipes;
+    
     @GetMapping("/suggestions")
-    public ResponseEntity<List<RecipeResponseDTO>> getRecipeSuggestions(@RequestHeader("User-Id") String userId) {
-        List<RecipeResponseDTO> suggestions = recipeService.getRecipeSuggestions(userId);
+    public ResponseEntity<List<RecipeResponseDTO>> getRecipeSuggestions(@RequestHeader("User-Id") String userId,
+                                                                        @RequestParam(defaultValue = "20") int limit) {
+        List<RecipeResponseDTO> suggestions = recipeService.getRecipeSuggestions(userId, limit);
         return ResponseEntity.ok(suggestions);
     }
     
+    // Pushes the suggestions above as they change instead of having clients poll for them.
+    @GetMapping(value = "/suggestions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRecipeSuggestions(@RequestHeader("User-Id") String userId) {
+        try {
+            return ResponseEntity.ok(recipeSuggestionStreams.subscribe(userId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
     @GetMapping("/use-it-up")
-    public ResponseEntity<List<RecipeResponseDTO>> getUseItUpRecipes(@RequestHeader("User-Id") String userId) {
-        List<RecipeResponseDTO> recipes = recipeService.getUseItUpRecipes(userId);
+    public ResponseEntity<List<RecipeResponseDTO>> getUseItUpRecipes(@RequestHeader("User-Id") String userId,
+                                                                     @RequestParam(defaultValue = "20") int limit) {
+        List<RecipeResponseDTO> recipes = recipeService.getUseItUpRecipes(userId, limit);
         return ResponseEntity.ok(recipes);
     }
     
+    // Called by pantry-service after a user's pantry changes so the cached snapshot is refreshed.
+    @PostMapping("/pantry-changed")
+    public ResponseEntity<Void> onPantryChanged(@RequestHeader("User-Id") String userId) {
+        recipeService.onPantryChanged(userId);
+        return ResponseEntity.noContent().build();
+    }
+    
     @GetMapping("/all")
-    public ResponseEntity<List<RecipeResponseDTO>> getAllRecipes(@RequestHeader("User-Id") String userId) {
-        List<RecipeResponseDTO> recipes = recipeService.getAllRecipes(userId);
-        return ResponseEntity.ok(recipes);
+    public ResponseEntity<List<?>> getAllRecipes(@RequestHeader("User-Id") String userId,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "50") int size,
+                                                 @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
+        try {
+            return toPageResponse(isFullView(view)
+                    ? recipeService.getAllRecipes(userId, cursor, size)
+                    : recipeService.getAllRecipeSummaries(userId, cursor, size), view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
+    // Public pages come from the in-memory page cache, so a matching If-None-Match is answered with a
+    // 304 by the ETag on the response without touching the database.
     @GetMapping("/public")
-    public ResponseEntity<List<RecipeResponseDTO>> getPublicRecipes() {
-        List<RecipeResponseDTO> recipes = recipeService.getPublicRecipes();
-        return ResponseEntity.ok(recipes);
+    public ResponseEntity<List<?>> getPublicRecipes(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int size,
+                                                    @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
+        try {
+            return toPageResponse(isFullView(view)
+                    ? recipeService.getPublicRecipes(cursor, size)
+                    : recipeService.getPublicRecipeSummaries(cursor, size), view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping(value = "/public/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPublicRecipes() {
+        StreamingResponseBody body = recipeExportService::exportPublicRecipes;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<List<?>> searchRecipes(@RequestParam("q") String query,
+                                                 @RequestHeader(value = "User-Id", required = false) String userId,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
+        try {
+            return toPageResponse(isFullView(view)
+                    ? recipeService.searchRecipes(query, userId, cursor, size)
+                    : recipeService.searchRecipeSummaries(query, userId, cursor, size), view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/my-recipes")
-    public ResponseEntity<List<RecipeResponseDTO>> getMyRecipes(@RequestHeader("User-Id") String userId) {
-        List<RecipeResponseDTO> recipes = recipeService.getMyRecipes(userId);
-        return ResponseEntity.ok(recipes);
+    public ResponseEntity<List<?>> getMyRecipes(@RequestHeader("User-Id") String userId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "50") int size,
+                                                @RequestParam(defaultValue = VIEW_SUMMARY) String view,
+                                                WebRequest webRequest) {
+        try {
+            if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+                String etag = recipeService.getMyRecipesETag(userId, cursor, size, viewName(view));
+                if (webRequest.checkNotModified(etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+                }
+            }
+            return toPageResponse(isFullView(view)
+                    ? recipeService.getMyRecipes(userId, cursor, size)
+                    : recipeService.getMyRecipeSummaries(userId, cursor, size), view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // List endpoints return summaries unless the caller opts in to ingredients and instructions.
+    private boolean isFullView(String view) {
+        return VIEW_FULL.equalsIgnoreCase(view);
+    }
+    
+    private String viewName(String view) {
+        return isFullView(view) ? VIEW_FULL : VIEW_SUMMARY;
+    }
+    
+    // The body stays a plain JSON array; the token for the next page travels in a response header. The
+    // ETag lets Spring answer a matching If-None-Match with 304 instead of writing the body again.
+    private ResponseEntity<List<?>> toPageResponse(CursorPageDTO<? extends VersionedRecipe> page, String view) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(ETags.forPage(viewName(view), page.getItems(), page.hasNext()));
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
     
     @GetMapping("/getRecipeById/{id}")
-    public ResponseEntity<RecipeResponseDTO> getRecipeById(@PathVariable Long id) {
+    public ResponseEntity<RecipeResponseDTO> getRecipeById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> etag = recipeService.getRecipeETag(id);
+            if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+                // A revalidated copy is still a view; browsers revalidate most repeat visits.
+                recipeService.recordView(id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
         RecipeResponseDTO recipe = recipeService.getRecipeById(id);
         if (recipe != null) {
-            return ResponseEntity.ok(recipe);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(ETags.forRecipe(recipe.getId(), recipe.getVersion()));
+            if (recipe.getUpdatedAt() != null) {
+                response.lastModified(recipe.getUpdatedAt());
+            }
+            return response.body(recipe);
         }
         return ResponseEntity.notFound().build();
     }
     
     
+    @GetMapping("/trending")
+    public ResponseEntity<List<RecipeResponseDTO>> getTrendingRecipes(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingRecipes.getTrending(limit));
+    }
+    
+    // Multi-get for callers that need several recipes at once, e.g. a meal plan: one request instead of a
+    // getRecipeById per recipe. Private recipes are only returned to their owner.
+    @GetMapping("/batch")
+    public ResponseEntity<List<RecipeResponseDTO>> getRecipesByIds(@RequestParam List<Long> ids,
+                                                                   @RequestHeader(value = "User-Id", required = false) String userId) {
+        try {
+            return ResponseEntity.ok(recipeService.getRecipesByIds(ids, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @PostMapping("/createRecipe")
     public ResponseEntity<RecipeResponseDTO> createRecipe(@RequestBody CreateRecipeRequestDTO request, @RequestHeader("User-Id") String userId) {
         RecipeResponseDTO savedRecipe = recipeService.createRecipe(request, userId);
         return ResponseEntity.ok(savedRecipe);
     }
     
-    @PutMapping("/updateRecipe/{id}")
-    public ResponseEntity<RecipeResponseDTO> updateRecipe(@PathVariable Long id, @RequestBody UpdateRecipeRequestDTO request, @RequestHeader("User-Id") String userId) {
+    @PostMapping("/import")
+    public ResponseEntity<BulkImportResponseDTO> importRecipes(@RequestBody List<CreateRecipeRequestDTO> requests, @RequestHeader("User-Id") String userId) {
+        try {
+            return ResponseEntity.ok(recipeImportService.importRecipes(requests, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @PostMapping("/{id}/rating")
+    public ResponseEntity<Void> rateRecipe(@PathVariable Long id, @RequestBody RateRecipeRequestDTO request, @RequestHeader("User-Id") String userId) {
+        if (request.getStars() == null) {
+            return ResponseEntity.badRequest().build();
+        }
         try {
-            RecipeResponseDTO updatedRecipe = recipeService.updateRecipe(id, request, userId);
-            return ResponseEntity.ok(updatedRecipe);
+            recipeRatingService.rateRecipe(id, request.getStars(), userId);
+            return ResponseEntity.accepted().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
     
+    // Rating flushes bump the row version, so an edit can lose the optimistic-lock race to one that lands
+    // between loading and committing the recipe. The request carries no version of its own, so it is
+    // re-applied in a fresh transaction; only a recipe that keeps changing underneath gets a 409.
+    @PutMapping("/updateRecipe/{id}")
+    public ResponseEntity<RecipeResponseDTO> updateRecipe(@PathVariable Long id, @RequestBody UpdateRecipeRequestDTO request, @RequestHeader("User-Id") String userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                RecipeResponseDTO updatedRecipe = recipeService.updateRecipe(id, request, userId);
+                return ResponseEntity.ok(updatedRecipe);
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build();
+                }
+            } catch (RuntimeException e) {
+                return ResponseEntity.notFound().build();
+            }
+        }
+    }
+    
+    // The delete is version-checked too, so it races rating flushes the same way an edit does.
     @DeleteMapping("/deleteRecipe/{id}")
     public ResponseEntity<Void> deleteRecipe(@PathVariable Long id, @RequestHeader("User-Id") String userId) {
-        try {
-            recipeService.deleteRecipe(id, userId);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                recipeService.deleteRecipe(id, userId);
+                return ResponseEntity.noContent().build();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build();
+                }
+            } catch (RuntimeException e) {
+                return ResponseEntity.notFound().build();
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.recipe.recipe_service.dto;
+
+import java.util.List;
+
+public class BulkImportResponseDTO {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<ImportItemResultDTO> results;
+    
+    public BulkImportResponseDTO() {}
+    
+    public BulkImportResponseDTO(List<ImportItemResultDTO> results) {
+        this.results = results;
+        this.total = results.size();
+        this.imported = (int) results.stream().filter(ImportItemResultDTO::isSuccess).count();
+        this.failed = this.total - this.imported;
+    }
+    
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+    
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+    
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    
+    public List<ImportItemResultDTO> getResults() { return results; }
+    public void setResults(List<ImportItemResultDTO> results) { this.results = results; }
+}
@@ -0,0 +1,23 @@
+package com.recipe.recipe_service.dto;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    
+    public CursorPageDTO() {}
+    
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+    
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,38 @@
+package com.recipe.recipe_service.dto;
+
+public class ImportItemResultDTO {
+    private int index;
+    private boolean success;
+    private Long recipeId;
+    private String error;
+    
+    public ImportItemResultDTO() {}
+    
+    public static ImportItemResultDTO succeeded(int index, Long recipeId) {
+        ImportItemResultDTO result = new ImportItemResultDTO();
+        result.setIndex(index);
+        result.setSuccess(true);
+        result.setRecipeId(recipeId);
+        return result;
+    }
+    
+    public static ImportItemResultDTO failed(int index, String error) {
+        ImportItemResultDTO result = new ImportItemResultDTO();
+        result.setIndex(index);
+        result.setSuccess(false);
+        result.setError(error);
+        return result;
+    }
+    
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+    
+    public Long getRecipeId() { return recipeId; }
+    public void setRecipeId(Long recipeId) { this.recipeId = recipeId; }
+    
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,14 @@
+package com.recipe.recipe_service.dto;
+
+public class RateRecipeRequestDTO {
+    private Integer stars;
+    
+    public RateRecipeRequestDTO() {}
+    
+    public RateRecipeRequestDTO(Integer stars) {
+        this.stars = stars;
+    }
+    
+    public Integer getStars() { return stars; }
+    public void setStars(Integer stars) { this.stars = stars; }
+}
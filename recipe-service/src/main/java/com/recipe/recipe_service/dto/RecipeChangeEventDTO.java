@@ -0,0 +1,45 @@
+package com.recipe.recipe_service.dto;
+
+import java.time.Instant;
+
+import com.recipe.recipe_service.entity.RecipeChangeType;
+import com.recipe.recipe_service.entity.Visibility;
+
+public class RecipeChangeEventDTO {
+    private Long eventId;
+    private Long recipeId;
+    private RecipeChangeType type;
+    private String userId;
+    private Visibility visibility;
+    private Instant occurredAt;
+    
+    public RecipeChangeEventDTO() {}
+    
+    public RecipeChangeEventDTO(Long eventId, Long recipeId, RecipeChangeType type, String userId,
+                                Visibility visibility, Instant occurredAt) {
+        this.eventId = eventId;
+        this.recipeId = recipeId;
+        this.type = type;
+        this.userId = userId;
+        this.visibility = visibility;
+        this.occurredAt = occurredAt;
+    }
+    
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+    
+    public Long getRecipeId() { return recipeId; }
+    public void setRecipeId(Long recipeId) { this.recipeId = recipeId; }
+    
+    public RecipeChangeType getType() { return type; }
+    public void setType(RecipeChangeType type) { this.type = type; }
+    
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+    
+    public Visibility getVisibility() { return visibility; }
+    public void setVisibility(Visibility visibility) { this.visibility = visibility; }
+    
+    public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+}
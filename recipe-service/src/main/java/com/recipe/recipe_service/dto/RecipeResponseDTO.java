@@ -1,9 +1,10 @@
 package com.recipe.recipe_service.dto;
 
 import com.recipe.recipe_service.entity.Visibility;
+import java.time.Instant;
 import java.util.List;
 
-public class RecipeResponseDTO {
+public class RecipeResponseDTO implements VersionedRecipe {
     private Long id;
     private String title;
     private String description;
@@ -17,6 +18,8 @@ public class RecipeResponseDTO {
     private List<String> instructions;
     private Double rating;
     private Integer ratingCount;
+    private Long version;
+    private Instant updatedAt;
     
     public RecipeResponseDTO() {}
     
@@ -78,4 +81,10 @@ public class RecipeResponseDTO {
     
     public Integer getRatingCount() { return ratingCount; }
     public void setRatingCount(Integer ratingCount) { this.ratingCount = ratingCount; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
 }
\ No newline at end of file
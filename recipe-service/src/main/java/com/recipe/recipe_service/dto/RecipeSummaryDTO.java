@@ -0,0 +1,80 @@
+package com.recipe.recipe_service.dto;
+
+import com.recipe.recipe_service.entity.Visibility;
+
+// List view of a recipe: the scalar columns of recipes plus an ingredient count, built directly by a
+// JPQL constructor expression so the ingredient and instruction collections are never loaded.
+public class RecipeSummaryDTO implements VersionedRecipe {
+    private Long id;
+    private String title;
+    private String description;
+    private String imageUrl;
+    private Integer preparationTime;
+    private Integer servings;
+    private String difficulty;
+    private String userId;
+    private Visibility visibility;
+    private Double rating;
+    private Integer ratingCount;
+    private Integer ingredientCount;
+    private Long version;
+    
+    public RecipeSummaryDTO() {}
+    
+    public RecipeSummaryDTO(Long id, String title, String description, String imageUrl, Integer preparationTime,
+                            Integer servings, String difficulty, String userId, Visibility visibility,
+                            Double rating, Integer ratingCount, Integer ingredientCount, Long version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.imageUrl = imageUrl;
+        this.preparationTime = preparationTime;
+        this.servings = servings;
+        this.difficulty = difficulty;
+        this.userId = userId;
+        this.visibility = visibility;
+        this.rating = rating;
+        this.ratingCount = ratingCount;
+        this.ingredientCount = ingredientCount;
+        this.version = version;
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+    
+    public Integer getPreparationTime() { return preparationTime; }
+    public void setPreparationTime(Integer preparationTime) { this.preparationTime = preparationTime; }
+    
+    public Integer getServings() { return servings; }
+    public void setServings(Integer servings) { this.servings = servings; }
+    
+    public String getDifficulty() { return difficulty; }
+    public void setDifficulty(String difficulty) { this.difficulty = difficulty; }
+    
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+    
+    public Visibility getVisibility() { return visibility; }
+    public void setVisibility(Visibility visibility) { this.visibility = visibility; }
+    
+    public Double getRating() { return rating; }
+    public void setRating(Double rating) { this.rating = rating; }
+    
+    public Integer getRatingCount() { return ratingCount; }
+    public void setRatingCount(Integer ratingCount) { this.ratingCount = ratingCount; }
+    
+    public Integer getIngredientCount() { return ingredientCount; }
+    public void setIngredientCount(Integer ingredientCount) { this.ingredientCount = ingredientCount; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,7 @@
+package com.recipe.recipe_service.dto;
+
+// Recipe representations that carry the row version used to build HTTP validators.
+public interface VersionedRecipe {
+    Long getId();
+    Long getVersion();
+}
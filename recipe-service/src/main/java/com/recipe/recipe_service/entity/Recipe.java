@@ -1,7 +1,13 @@
 package com.recipe.recipe_service.entity;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -12,14 +18,23 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "recipes")
 public class Recipe {
+    // Sequence ids are handed out in pooled blocks of 50, so Hibernate knows each id before the insert
+    // and can send recipe rows (and their collection rows) as JDBC batches.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipes_seq")
+    @SequenceGenerator(name = "recipes_seq", sequenceName = "recipes_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -35,18 +50,41 @@ public class Recipe {
     @Enumerated(EnumType.STRING)
     private Visibility visibility = Visibility.PUBLIC;
     
+    // Collections of every recipe loaded in the same session are fetched together, so mapping a page
+    // of recipes costs one query per collection instead of one per recipe. The order columns make both
+    // lists indexed: Hibernate updates, appends or trims rows by position instead of deleting and
+    // re-inserting the whole collection whenever it changes.
     @ElementCollection
-    @CollectionTable(name = "recipe_ingredients", joinColumns = @JoinColumn(name = "recipe_id"))
+    @CollectionTable(name = "recipe_ingredients", joinColumns = @JoinColumn(name = "recipe_id"),
+            indexes = @Index(name = "idx_recipe_ingredients_normalized_name", columnList = "normalized_name, recipe_id"))
+    @OrderColumn(name = "position")
+    @BatchSize(size = 128)
     private List<RecipeIngredient> ingredients = new ArrayList<>();
     
     @ElementCollection
     @CollectionTable(name = "recipe_instructions", joinColumns = @JoinColumn(name = "recipe_id"))
     @Column(name = "instruction")
+    @OrderColumn(name = "position")
+    @BatchSize(size = 128)
     private List<String> instructions = new ArrayList<>();
     
+    // Space-separated ingredient names, kept on the recipe row so the generated search_vector column can
+    // include them.
+    @Column(columnDefinition = "text")
+    private String ingredientText;
+    
     private Double rating = 0.0;
     private Integer ratingCount = 0;
     
+    // Bumped by Hibernate on every change to the row or its collections (and by the rating flush), so it
+    // doubles as the validator for HTTP conditional GETs.
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+    
+    @UpdateTimestamp
+    private Instant updatedAt;
+    
     public Recipe() {}
     
     public Recipe(String userId, String title, String description, Integer preparationTime, Integer servings, String difficulty, Visibility visibility) {
@@ -67,6 +105,38 @@ public class Recipe {
         this.instructions.add(instruction);
     }
     
+    // Replace the lists position by position, keeping the persistent collections: equal entries stay
+    // untouched, so an edit to one step flushes one row update and leaves the version alone otherwise.
+    public void updateIngredients(List<RecipeIngredient> updated) {
+        mergeByPosition(ingredients, updated);
+    }
+    
+    public void updateInstructions(List<String> updated) {
+        mergeByPosition(instructions, updated);
+    }
+    
+    private static <T> void mergeByPosition(List<T> current, List<T> updated) {
+        for (int i = 0; i < updated.size(); i++) {
+            if (i >= current.size()) {
+                current.add(updated.get(i));
+            } else if (!Objects.equals(current.get(i), updated.get(i))) {
+                current.set(i, updated.get(i));
+            }
+        }
+        while (current.size() > updated.size()) {
+            current.remove(current.size() - 1);
+        }
+    }
+    
+    @PrePersist
+    @PreUpdate
+    public void refreshIngredientText() {
+        this.ingredientText = ingredients == null ? null : ingredients.stream()
+                .map(RecipeIngredient::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+    }
+    
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     
@@ -100,9 +170,15 @@ public class Recipe {
     public List<String> getInstructions() { return instructions; }
     public void setInstructions(List<String> instructions) { this.instructions = instructions; }
     
+    public String getIngredientText() { return ingredientText; }
+    
     public Double getRating() { return rating; }
     public void setRating(Double rating) { this.rating = rating; }
     
     public Integer getRatingCount() { return ratingCount; }
     public void setRatingCount(Integer ratingCount) { this.ratingCount = ratingCount; }
+    
+    public long getVersion() { return version; }
+    
+    public Instant getUpdatedAt() { return updatedAt; }
 }
\ No newline at end of file
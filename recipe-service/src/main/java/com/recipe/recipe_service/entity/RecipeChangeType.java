@@ -0,0 +1,7 @@
+package com.recipe.recipe_service.entity;
+
+public enum RecipeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
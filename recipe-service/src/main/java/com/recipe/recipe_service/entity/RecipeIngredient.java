@@ -1,27 +1,55 @@
 package com.recipe.recipe_service.entity;
 
+import java.util.Objects;
+
+import com.recipe.recipe_service.util.IngredientNames;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
 @Embeddable
 public class RecipeIngredient {
     private String name;
+    
+    // Derived from name on every write, so ingredient lookups can use a plain index on this column
+    // instead of applying LOWER() to every row.
+    @Column(name = "normalized_name")
+    private String normalizedName;
+    
     private Double quantity;
     private String unit;
     
     public RecipeIngredient() {}
     
     public RecipeIngredient(String name, Double quantity, String unit) {
-        this.name = name;
+        setName(name);
         this.quantity = quantity;
         this.unit = unit;
     }
     
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        this.name = name;
+        this.normalizedName = IngredientNames.normalize(name);
+    }
+    
+    public String getNormalizedName() { return normalizedName; }
     
     public Double getQuantity() { return quantity; }
     public void setQuantity(Double quantity) { this.quantity = quantity; }
     
     public String getUnit() { return unit; }
     public void setUnit(String unit) { this.unit = unit; }
-}
\ No newline at end of file
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RecipeIngredient that)) return false;
+        return Objects.equals(name, that.name) && Objects.equals(quantity, that.quantity) && Objects.equals(unit, that.unit);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, quantity, unit);
+    }
+}
@@ -0,0 +1,64 @@
+package com.recipe.recipe_service.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+// A recipe change waiting to be relayed to downstream consumers. Rows are written in the same
+// transaction as the change itself and deleted once delivered.
+@Entity
+@Table(name = "recipe_outbox")
+public class RecipeOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_outbox_seq")
+    @SequenceGenerator(name = "recipe_outbox_seq", sequenceName = "recipe_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long recipeId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecipeChangeType type;
+    
+    private String userId;
+    
+    @Enumerated(EnumType.STRING)
+    private Visibility visibility;
+    
+    @Column(nullable = false)
+    private Instant occurredAt;
+    
+    // Set while a relay is delivering the event; other relays skip it until then.
+    private Instant claimedUntil;
+    
+    public RecipeOutboxEvent() {}
+    
+    public RecipeOutboxEvent(RecipeChangeType type, Recipe recipe) {
+        this.recipeId = recipe.getId();
+        this.type = type;
+        this.userId = recipe.getUserId();
+        this.visibility = recipe.getVisibility();
+        this.occurredAt = Instant.now();
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getRecipeId() { return recipeId; }
+    public RecipeChangeType getType() { return type; }
+    public String getUserId() { return userId; }
+    public Visibility getVisibility() { return visibility; }
+    public Instant getOccurredAt() { return occurredAt; }
+    
+    public Instant getClaimedUntil() { return claimedUntil; }
+    public void setClaimedUntil(Instant claimedUntil) { this.claimedUntil = claimedUntil; }
+}
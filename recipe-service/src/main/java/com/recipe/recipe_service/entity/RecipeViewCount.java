@@ -0,0 +1,33 @@
+package com.recipe.recipe_service.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Aggregated views of one recipe. score is a view count that decays exponentially with age (it is
+// stored as of updatedAt); both columns are maintained by RecipeViewCounter's upsert, not through JPA.
+@Entity
+@Table(name = "recipe_view_counts")
+public class RecipeViewCount {
+    @Id
+    private Long recipeId;
+    
+    @Column(nullable = false)
+    private long totalViews;
+    
+    @Column(nullable = false)
+    private double score;
+    
+    @Column(nullable = false)
+    private Instant updatedAt;
+    
+    public RecipeViewCount() {}
+    
+    public Long getRecipeId() { return recipeId; }
+    public long getTotalViews() { return totalViews; }
+    public double getScore() { return score; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
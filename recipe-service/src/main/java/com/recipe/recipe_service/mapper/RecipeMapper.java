@@ -1,13 +1,17 @@
 package com.recipe.recipe_service.mapper;
 
 import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.RecipeIngredientDTO;
 import com.recipe.recipe_service.dto.RecipeResponseDTO;
 import com.recipe.recipe_service.dto.UpdateRecipeRequestDTO;
 import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.RecipeIngredient;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface RecipeMapper {
     
@@ -23,5 +27,9 @@ public interface RecipeMapper {
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "rating", ignore = true)
     @Mapping(target = "ratingCount", ignore = true)
+    @Mapping(target = "ingredients", ignore = true)
+    @Mapping(target = "instructions", ignore = true)
     void updateEntityFromRequest(UpdateRecipeRequestDTO request, @MappingTarget Recipe entity);
+    
+    List<RecipeIngredient> toIngredients(List<RecipeIngredientDTO> ingredients);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.recipe.recipe_service.repository;
+
+import com.recipe.recipe_service.entity.RecipeOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RecipeOutboxRepository extends JpaRepository<RecipeOutboxEvent, Long> {
+    
+    // Rows being claimed or delivered by another instance's relay are skipped rather than waited on, so
+    // several pods can drain the outbox at once without delivering the same event twice.
+    @Query(value = "SELECT * FROM recipe_outbox WHERE claimed_until IS NULL OR claimed_until < :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<RecipeOutboxEvent> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+}
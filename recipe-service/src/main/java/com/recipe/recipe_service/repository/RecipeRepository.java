@@ -1,32 +1,94 @@
 package com.recipe.recipe_service.repository;
 
+import com.recipe.recipe_service.dto.RecipeSummaryDTO;
 import com.recipe.recipe_service.entity.Recipe;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     
-    @Query("SELECT r FROM Recipe r WHERE r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC OR r.userId = :userId")
-    List<Recipe> findVisibleRecipes(@Param("userId") String userId);
+    // List views select the scalar columns only; SIZE() is a count subquery, so neither element
+    // collection is loaded.
+    String SUMMARY_SELECT = "SELECT new com.recipe.recipe_service.dto.RecipeSummaryDTO(" +
+            "r.id, r.title, r.description, r.imageUrl, r.preparationTime, r.servings, r.difficulty, " +
+            "r.userId, r.visibility, r.rating, r.ratingCount, SIZE(r.ingredients), r.version) FROM Recipe r ";
     
-    List<Recipe> findByUserId(String userId);
+    // List pages run newest first: each page holds the ids just below the last id of the previous one.
+    @Query("SELECT r FROM Recipe r WHERE (r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC OR r.userId = :userId) " +
+           "AND r.id < :beforeId ORDER BY r.id DESC")
+    List<Recipe> findVisibleRecipesBefore(@Param("userId") String userId, @Param("beforeId") Long beforeId, Pageable pageable);
+    
+    List<Recipe> findByUserIdAndIdLessThanOrderByIdDesc(String userId, Long beforeId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE (r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC OR r.userId = :userId) " +
+           "AND r.id < :beforeId ORDER BY r.id DESC")
+    List<RecipeSummaryDTO> findVisibleRecipeSummariesBefore(@Param("userId") String userId, @Param("beforeId") Long beforeId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC " +
+           "AND r.id < :beforeId ORDER BY r.id DESC")
+    List<RecipeSummaryDTO> findPublicRecipeSummariesBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE r.userId = :userId AND r.id < :beforeId ORDER BY r.id DESC")
+    List<RecipeSummaryDTO> findRecipeSummariesByUserBefore(@Param("userId") String userId, @Param("beforeId") Long beforeId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE r.id IN :ids")
+    List<RecipeSummaryDTO> findRecipeSummariesByIds(@Param("ids") List<Long> ids);
     
     Optional<Recipe> findByIdAndUserId(Long id, String userId);
     
-    @Query("SELECT r FROM Recipe r WHERE r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC")
-    List<Recipe> findPublicRecipes();
+    @Query("SELECT r FROM Recipe r WHERE r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC " +
+           "AND r.id < :beforeId ORDER BY r.id DESC")
+    List<Recipe> findPublicRecipesBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+    
+    // Ascending walk for the export, which streams the whole catalog in id order.
+    @Query("SELECT r FROM Recipe r WHERE r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<Recipe> findPublicRecipesAfter(@Param("afterId") Long afterId, Pageable pageable);
     
+    // Callers pass names already run through IngredientNames.normalize.
     @Query("SELECT DISTINCT r FROM Recipe r JOIN r.ingredients i WHERE " +
-           "LOWER(i.name) IN :ingredientNames AND r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC")
+           "i.normalizedName IN :ingredientNames AND r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC")
     List<Recipe> findByIngredientNames(@Param("ingredientNames") List<String> ingredientNames);
     
     @Query("SELECT DISTINCT r FROM Recipe r JOIN r.ingredients i WHERE " +
-           "LOWER(i.name) IN :ingredientNames AND (r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC OR r.userId = :userId)")
+           "i.normalizedName IN :ingredientNames AND (r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC OR r.userId = :userId)")
     List<Recipe> findByIngredientNamesAndUser(@Param("ingredientNames") List<String> ingredientNames, @Param("userId") String userId);
+    
+    // Full-text match on the weighted search_vector (title, ingredients, description) or a fuzzy trigram
+    // match on the title; both are index-backed, see schema-postgresql.sql.
+    @Query(value = "SELECT r.id FROM recipes r, websearch_to_tsquery('english', :query) q " +
+                   "WHERE (r.visibility = 'PUBLIC' OR r.user_id = :userId) " +
+                   "AND (r.search_vector @@ q OR r.title % :query) " +
+                   "ORDER BY ts_rank(r.search_vector, q) + similarity(r.title, :query) DESC, r.id " +
+                   "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchVisibleRecipeIds(@Param("query") String query, @Param("userId") String userId,
+                                      @Param("offset") int offset, @Param("limit") int limit);
+    
+    // (id, version) pairs of a page, enough to compute its ETag without loading the page itself.
+    @Query("SELECT r.id, r.version FROM Recipe r WHERE r.userId = :userId AND r.id < :beforeId ORDER BY r.id DESC")
+    List<Object[]> findRecipeVersionsByUserBefore(@Param("userId") String userId, @Param("beforeId") Long beforeId, Pageable pageable);
+    
+    @Query("SELECT r.version FROM Recipe r WHERE r.id = :id AND r.visibility = com.recipe.recipe_service.entity.Visibility.PUBLIC")
+    Optional<Long> findPublicRecipeVersion(@Param("id") Long id);
+    
+    @Query("SELECT r.id, r.userId, r.visibility, i.name FROM Recipe r LEFT JOIN r.ingredients i")
+    List<Object[]> findIngredientIndexRows();
+    
+    @Query("SELECT r.id, r.userId, r.visibility, i.name FROM Recipe r LEFT JOIN r.ingredients i WHERE r.updatedAt > :since")
+    List<Object[]> findIngredientIndexRowsUpdatedSince(@Param("since") Instant since);
+    
+    @Query("SELECT r.id FROM Recipe r")
+    List<Long> findAllIds();
+    
+    // Ids among the given ones that still exist and have not been modified after the given instant.
+    @Query("SELECT r.id FROM Recipe r WHERE r.id IN :ids AND (r.updatedAt IS NULL OR r.updatedAt <= :since)")
+    List<Long> findIdsUnchangedSince(@Param("ids") List<Long> ids, @Param("since") Instant since);
 }
\ No newline at end of file
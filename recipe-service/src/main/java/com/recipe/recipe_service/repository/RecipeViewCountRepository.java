@@ -0,0 +1,20 @@
+package com.recipe.recipe_service.repository;
+
+import com.recipe.recipe_service.entity.RecipeViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecipeViewCountRepository extends JpaRepository<RecipeViewCount, Long> {
+    
+    // Scores are decayed to the current time before ranking, so a recipe that stopped being viewed sinks
+    // even though its row is no longer written.
+    @Query(value = "SELECT recipe_id FROM recipe_view_counts " +
+                   "ORDER BY score * EXP(-EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - updated_at)) / :decaySeconds) DESC, recipe_id " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> findTrendingRecipeIds(@Param("decaySeconds") double decaySeconds, @Param("limit") int limit);
+}
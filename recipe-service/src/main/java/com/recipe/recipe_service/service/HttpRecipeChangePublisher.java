@@ -0,0 +1,48 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.recipe.recipe_service.dto.RecipeChangeEventDTO;
+
+/**
+ * POSTs each batch as a JSON array to every URL in {@code recipe.outbox.callback-urls}. Delivery is
+ * at-least-once: a batch that fails for any subscriber is retried for all of them, so consumers should
+ * ignore event ids they have already seen.
+ */
+@Component
+public class HttpRecipeChangePublisher implements RecipeChangePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpRecipeChangePublisher.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private WebClient recipeChangeWebClient;
+
+    @Value("${recipe.outbox.callback-urls:}")
+    private List<String> callbackUrls = List.of();
+
+    @Override
+    public void publish(List<RecipeChangeEventDTO> events) {
+        for (String url : callbackUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            recipeChangeWebClient.post()
+                    .uri(url.trim())
+                    .bodyValue(events)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(REQUEST_TIMEOUT);
+        }
+        logger.debug("Published {} recipe change events to {} subscribers", events.size(), callbackUrls.size());
+    }
+}
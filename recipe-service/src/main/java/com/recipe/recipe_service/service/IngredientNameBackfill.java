@@ -0,0 +1,44 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.recipe.recipe_service.util.IngredientNames;
+
+/**
+ * Fills {@code recipe_ingredients.normalized_name} for rows written before the column existed. Runs
+ * once per distinct raw name, so the cost is bounded by vocabulary size rather than row count.
+ */
+@Component
+public class IngredientNameBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(IngredientNameBackfill.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Ingredient matching reads only normalized_name, so this runs before ApplicationReadyEvent: the readiness
+    // probe reports the pod as accepting traffic only once every row can match.
+    @EventListener(ApplicationStartedEvent.class)
+    public void backfill() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT DISTINCT name FROM recipe_ingredients WHERE normalized_name IS NULL AND TRIM(name) <> ''",
+                String.class);
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = names.stream()
+                .map(name -> new Object[] { IngredientNames.normalize(name), name })
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "UPDATE recipe_ingredients SET normalized_name = ? WHERE name = ? AND normalized_name IS NULL", batch);
+        logger.info("Backfilled normalized names for {} distinct ingredients", names.size());
+    }
+}
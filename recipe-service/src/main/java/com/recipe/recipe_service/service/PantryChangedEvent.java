@@ -0,0 +1,5 @@
+package com.recipe.recipe_service.service;
+
+// Published after the cached pantry snapshot of the user has been dropped.
+public record PantryChangedEvent(String userId) {
+}
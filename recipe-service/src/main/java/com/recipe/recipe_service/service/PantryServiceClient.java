@@ -1,8 +1,12 @@
 package com.recipe.recipe_service.service;
 
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.ObjLongConsumer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
@@ -10,40 +14,72 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.recipe.recipe_service.dto.PantryItem;
 
+import reactor.core.publisher.Mono;
+
 @Service
 public class PantryServiceClient {
     
+    private static final Logger logger = LoggerFactory.getLogger(PantryServiceClient.class);
+    
+    private static final ParameterizedTypeReference<List<PantryItem>> PANTRY_ITEMS = new ParameterizedTypeReference<>() {};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(3);
+    
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private WebClient pantryServiceWebClient;
     
-    public List<PantryItem> getUserPantry(String userId) {
-        try {
-            return webClientBuilder.build()
-                .get()
-                .uri("http://pantry-service/api/pantry/items")
-                .header("User-Id", userId)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<PantryItem>>() {})
-                .block();
-        } catch (Exception e) {
-            System.out.println("Error fetching pantry: " + e.getMessage());
-            return List.of(); 
+    @Autowired
+    private PantrySnapshotCache pantrySnapshotCache;
+    
+    public Mono<List<PantryItem>> getUserPantryAsync(String userId) {
+        List<PantryItem> cached = pantrySnapshotCache.getPantry(userId);
+        if (cached != null) {
+            return Mono.just(cached);
         }
+        return fetchItems("/api/pantry/items", userId, "Error fetching pantry: {}",
+                (items, generation) -> pantrySnapshotCache.putPantry(userId, items, generation));
     }
     
-    public List<PantryItem> getExpiringItems(String userId) {
-        try {
-            return webClientBuilder.build()
-                .get()
-                .uri("http://pantry-service/api/pantry/items/expiring")
-                .header("User-Id", userId)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<PantryItem>>() {})
-                .block();
-        } catch (Exception e) {
-            System.out.println("Error fetching expiring items: " + e.getMessage());
-            return List.of();
+    public Mono<List<PantryItem>> getExpiringItemsAsync(String userId) {
+        List<PantryItem> cached = pantrySnapshotCache.getExpiring(userId);
+        if (cached != null) {
+            return Mono.just(cached);
         }
+        return fetchItems("/api/pantry/items/expiring", userId, "Error fetching expiring items: {}",
+                (items, generation) -> pantrySnapshotCache.putExpiring(userId, items, generation));
+    }
+    
+    public List<PantryItem> getUserPantry(String userId) {
+        return getUserPantryAsync(userId).block();
+    }
+    
+    public List<PantryItem> getExpiringItems(String userId) {
+        return getExpiringItemsAsync(userId).block();
+    }
+    
+    public void evictPantry(String userId) {
+        pantrySnapshotCache.invalidate(userId);
+    }
+    
+    // Only successful responses are cached; failures degrade to an empty pantry so suggestions keep
+    // working while pantry-service is down, and are retried on the next request. The cache generation is
+    // read when the request starts, so a response that an invalidation overtook is not written back.
+    private Mono<List<PantryItem>> fetchItems(String uri, String userId, String errorMessage,
+                                              ObjLongConsumer<List<PantryItem>> onSuccess) {
+        return Mono.defer(() -> {
+                long generation = pantrySnapshotCache.generation(userId);
+                return pantryServiceWebClient
+                    .get()
+                    .uri(uri)
+                    .header("User-Id", userId)
+                    .retrieve()
+                    .bodyToMono(PANTRY_ITEMS)
+                    .timeout(REQUEST_TIMEOUT)
+                    .defaultIfEmpty(List.of())
+                    .doOnNext(items -> onSuccess.accept(items, generation));
+            })
+            .onErrorResume(e -> {
+                logger.warn(errorMessage, e.getMessage());
+                return Mono.just(List.of());
+            });
     }
 }
-
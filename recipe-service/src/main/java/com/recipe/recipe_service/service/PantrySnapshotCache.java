@@ -0,0 +1,92 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.recipe_service.dto.PantryItem;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Short-lived per-user copies of the pantry, so repeated suggestion requests do not call pantry-service
+// every time. pantry-service invalidates a user's entry whenever that pantry changes.
+//
+// Each invalidation also stamps the user with a new generation. A fetch reads the generation before it
+// calls pantry-service and passes it back on put, so a response that raced an invalidation is not cached.
+// Generations only need to outlive an in-flight fetch, so they expire with the snapshots.
+@Component
+public class PantrySnapshotCache {
+
+    private final Cache<String, List<PantryItem>> pantryItems;
+    private final Cache<String, List<PantryItem>> expiringItems;
+    private final Cache<String, Long> generations;
+    private final AtomicLong nextGeneration = new AtomicLong();
+
+    public PantrySnapshotCache(@Value("${pantry.cache.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${pantry.cache.max-users:10000}") long maxUsers,
+                               MeterRegistry meterRegistry) {
+        this.pantryItems = CaffeineCacheMetrics.monitor(meterRegistry, newCache(ttlSeconds, maxUsers), "pantry.items");
+        this.expiringItems = CaffeineCacheMetrics.monitor(meterRegistry, newCache(ttlSeconds, maxUsers), "pantry.expiring");
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    private static Cache<String, List<PantryItem>> newCache(long ttlSeconds, long maxUsers) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxUsers)
+                .recordStats()
+                .build();
+    }
+
+    public List<PantryItem> getPantry(String userId) {
+        return userId == null ? null : pantryItems.getIfPresent(userId);
+    }
+
+    public long generation(String userId) {
+        if (userId == null) {
+            return 0L;
+        }
+        Long generation = generations.getIfPresent(userId);
+        return generation == null ? 0L : generation;
+    }
+
+    public void putPantry(String userId, List<PantryItem> items, long generation) {
+        put(pantryItems, userId, items, generation);
+    }
+
+    public List<PantryItem> getExpiring(String userId) {
+        return userId == null ? null : expiringItems.getIfPresent(userId);
+    }
+
+    public void putExpiring(String userId, List<PantryItem> items, long generation) {
+        put(expiringItems, userId, items, generation);
+    }
+
+    // Write first, then re-check: invalidate() bumps the generation before it drops the snapshots, so
+    // either it runs after the write and drops it, or the re-check sees the new generation.
+    private void put(Cache<String, List<PantryItem>> cache, String userId, List<PantryItem> items, long generation) {
+        if (userId == null || generation(userId) != generation) {
+            return;
+        }
+        cache.put(userId, List.copyOf(items));
+        if (generation(userId) != generation) {
+            cache.invalidate(userId);
+        }
+    }
+
+    public void invalidate(String userId) {
+        if (userId != null) {
+            generations.put(userId, nextGeneration.incrementAndGet());
+            pantryItems.invalidate(userId);
+            expiringItems.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.recipe.recipe_service.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.recipe.recipe_service.dto.RecipeIngredientDTO;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+
+/**
+ * Warm start for new pods. The ingredient index and the cached public recipes are periodically written to
+ * a binary file; a starting pod maps that file, restores both from it and only asks Postgres for what
+ * changed since it was written, instead of loading the whole catalog before it takes traffic.
+ *
+ * <p>Disabled unless {@code recipe.snapshot.path} is set. Pods may share the file: each one writes a
+ * temporary file and moves it into place atomically.
+ */
+@Component
+public class RecipeCatalogSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeCatalogSnapshot.class);
+
+    static final int MAGIC = 0x52435053;
+    static final int FORMAT_VERSION = 1;
+
+    // Modification times come from the clock of whichever pod wrote the row, so the changes are re-read
+    // from a little before the snapshot was taken.
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    record Contents(Instant writtenAt, List<IndexedRecipe> index, List<RecipeResponseDTO> recipes) {}
+
+    @Autowired
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Autowired
+    private RecipeReadCache recipeReadCache;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Value("${recipe.snapshot.path:}")
+    private String path = "";
+
+    @Value("${recipe.snapshot.max-age-minutes:60}")
+    private long maxAgeMinutes = 60;
+
+    // Runs before ApplicationReadyEvent, so the index is ready before its own full rebuild would start and
+    // before the readiness probe reports the pod as accepting traffic.
+    @EventListener(ApplicationStartedEvent.class)
+    public void restore() {
+        if (path.isBlank()) {
+            return;
+        }
+        Path file = Path.of(path);
+        if (!Files.isReadable(file)) {
+            logger.info("No recipe catalog snapshot at {}, loading from the database", file);
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Contents contents;
+        try {
+            contents = read(file);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable recipe catalog snapshot {}: {}", file, e.getMessage());
+            return;
+        }
+        if (contents.writtenAt().isBefore(Instant.now().minus(Duration.ofMinutes(maxAgeMinutes)))) {
+            logger.info("Recipe catalog snapshot from {} is too old, loading from the database", contents.writtenAt());
+            return;
+        }
+
+        Instant since = contents.writtenAt().minus(CLOCK_SKEW);
+        recipeIngredientIndex.restore(contents.index());
+        Set<Long> changed = recipeIngredientIndex.applyChangesSince(since);
+        int warmed = warmCache(contents.recipes(), since);
+        logger.info("Restored {} indexed recipes ({} changed since) and {} cached recipes from snapshot {} in {} ms",
+                contents.index().size(), changed.size(), warmed, contents.writtenAt(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(initialDelayString = "${recipe.snapshot.interval-ms:300000}",
+               fixedDelayString = "${recipe.snapshot.interval-ms:300000}")
+    public void write() {
+        if (path.isBlank() || !recipeIngredientIndex.isReady()) {
+            return;
+        }
+        Path file = Path.of(path);
+        try {
+            write(file, new Contents(Instant.now(), recipeIngredientIndex.snapshot(), recipeReadCache.cachedRecipes()));
+        } catch (IOException e) {
+            logger.warn("Writing recipe catalog snapshot {} failed: {}", file, e.getMessage());
+        }
+    }
+
+    // Only recipes that still exist and were not modified after the snapshot go back into the cache.
+    private int warmCache(List<RecipeResponseDTO> recipes, Instant since) {
+        Map<Long, RecipeResponseDTO> byId = new HashMap<>();
+        recipes.forEach(recipe -> byId.put(recipe.getId(), recipe));
+        List<Long> ids = new ArrayList<>(byId.keySet());
+        int warmed = 0;
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            for (Long id : recipeRepository.findIdsUnchangedSince(chunk, since)) {
+                recipeReadCache.putRecipe(byId.get(id));
+                warmed++;
+            }
+        }
+        return warmed;
+    }
+
+    static void write(Path file, Contents contents) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(contents.writtenAt().toEpochMilli());
+                out.writeInt(contents.index().size());
+                for (IndexedRecipe recipe : contents.index()) {
+                    writeIndexed(out, recipe);
+                }
+                out.writeInt(contents.recipes().size());
+                for (RecipeResponseDTO recipe : contents.recipes()) {
+                    writeRecipe(out, recipe);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    static Contents read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format");
+            }
+            Instant writtenAt = Instant.ofEpochMilli(in.getLong());
+            int indexed = in.getInt();
+            List<IndexedRecipe> index = new ArrayList<>(indexed);
+            for (int i = 0; i < indexed; i++) {
+                index.add(readIndexed(in));
+            }
+            int cached = in.getInt();
+            List<RecipeResponseDTO> recipes = new ArrayList<>(cached);
+            for (int i = 0; i < cached; i++) {
+                recipes.add(readRecipe(in));
+            }
+            return new Contents(writtenAt, index, recipes);
+        }
+    }
+
+    private static void writeIndexed(DataOutputStream out, IndexedRecipe recipe) throws IOException {
+        out.writeLong(recipe.id());
+        writeString(out, recipe.userId());
+        writeVisibility(out, recipe.visibility());
+        writeStrings(out, List.copyOf(recipe.ingredients()));
+    }
+
+    private static IndexedRecipe readIndexed(ByteBuffer in) {
+        long id = in.getLong();
+        String userId = readString(in);
+        Visibility visibility = readVisibility(in);
+        return new IndexedRecipe(id, userId, visibility, new HashSet<>(readStrings(in)));
+    }
+
+    private static void writeRecipe(DataOutputStream out, RecipeResponseDTO recipe) throws IOException {
+        out.writeLong(recipe.getId());
+        writeString(out, recipe.getTitle());
+        writeString(out, recipe.getDescription());
+        writeString(out, recipe.getImageUrl());
+        writeInteger(out, recipe.getPreparationTime());
+        writeInteger(out, recipe.getServings());
+        writeString(out, recipe.getDifficulty());
+        writeString(out, recipe.getUserId());
+        writeVisibility(out, recipe.getVisibility());
+        List<RecipeIngredientDTO> ingredients = recipe.getIngredients();
+        out.writeInt(ingredients == null ? -1 : ingredients.size());
+        if (ingredients != null) {
+            for (RecipeIngredientDTO ingredient : ingredients) {
+                writeString(out, ingredient.getName());
+                writeDouble(out, ingredient.getQuantity());
+                writeString(out, ingredient.getUnit());
+            }
+        }
+        writeStrings(out, recipe.getInstructions());
+        writeDouble(out, recipe.getRating());
+        writeInteger(out, recipe.getRatingCount());
+        writeLong(out, recipe.getVersion());
+        Instant updatedAt = recipe.getUpdatedAt();
+        out.writeBoolean(updatedAt != null);
+        if (updatedAt != null) {
+            out.writeLong(updatedAt.getEpochSecond());
+            out.writeInt(updatedAt.getNano());
+        }
+    }
+
+    private static RecipeResponseDTO readRecipe(ByteBuffer in) {
+        RecipeResponseDTO recipe = new RecipeResponseDTO();
+        recipe.setId(in.getLong());
+        recipe.setTitle(readString(in));
+        recipe.setDescription(readString(in));
+        recipe.setImageUrl(readString(in));
+        recipe.setPreparationTime(readInteger(in));
+        recipe.setServings(readInteger(in));
+        recipe.setDifficulty(readString(in));
+        recipe.setUserId(readString(in));
+        recipe.setVisibility(readVisibility(in));
+        int ingredientCount = in.getInt();
+        if (ingredientCount >= 0) {
+            List<RecipeIngredientDTO> ingredients = new ArrayList<>(ingredientCount);
+            for (int i = 0; i < ingredientCount; i++) {
+                ingredients.add(new RecipeIngredientDTO(readString(in), readDouble(in), readString(in)));
+            }
+            recipe.setIngredients(ingredients);
+        }
+        recipe.setInstructions(readStrings(in));
+        recipe.setRating(readDouble(in));
+        recipe.setRatingCount(readInteger(in));
+        recipe.setVersion(readLong(in));
+        if (in.get() != 0) {
+            recipe.setUpdatedAt(Instant.ofEpochSecond(in.getLong(), in.getInt()));
+        }
+        return recipe;
+    }
+
+    // Strings are length-prefixed UTF-8, -1 standing for null; nullable numbers carry a presence byte.
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeVisibility(DataOutputStream out, Visibility visibility) throws IOException {
+        out.writeByte(visibility == null ? -1 : visibility.ordinal());
+    }
+
+    private static Visibility readVisibility(ByteBuffer in) {
+        byte ordinal = in.get();
+        return ordinal < 0 ? null : Visibility.values()[ordinal];
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        return in.get() != 0 ? in.getLong() : null;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(ByteBuffer in) {
+        return in.get() != 0 ? in.getDouble() : null;
+    }
+}
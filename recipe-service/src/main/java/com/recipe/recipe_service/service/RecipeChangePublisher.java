@@ -0,0 +1,11 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+
+import com.recipe.recipe_service.dto.RecipeChangeEventDTO;
+
+// Delivers a batch of recipe change events; throwing leaves the batch in the outbox for the next attempt.
+public interface RecipeChangePublisher {
+
+    void publish(List<RecipeChangeEventDTO> events);
+}
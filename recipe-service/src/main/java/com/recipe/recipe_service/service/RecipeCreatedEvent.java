@@ -0,0 +1,7 @@
+package com.recipe.recipe_service.service;
+
+import com.recipe.recipe_service.entity.Recipe;
+
+// Published once the transaction that created the recipe has committed.
+public record RecipeCreatedEvent(Recipe recipe) {
+}
@@ -0,0 +1,71 @@
+package com.recipe.recipe_service.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+@Service
+public class RecipeExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeMapper recipeMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${recipe.export.chunk-size:500}")
+    private int chunkSize = 500;
+
+    // Walks the public catalog in keyset chunks, each read in its own short read-only transaction, and
+    // writes one JSON document per line. Only one chunk is ever held in memory and no database
+    // connection stays open while the client is reading.
+    public void exportPublicRecipes(OutputStream out) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long afterId = 0L;
+        while (true) {
+            long from = afterId;
+            List<RecipeResponseDTO> chunk = readOnly.execute(status -> recipeRepository
+                    .findPublicRecipesAfter(from, PageRequest.of(0, chunkSize)).stream()
+                    .map(recipeMapper::toResponseDTO)
+                    .collect(Collectors.toList()));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            for (RecipeResponseDTO recipe : chunk) {
+                out.write(objectMapper.writeValueAsBytes(recipe));
+                out.write(NEWLINE);
+            }
+            out.flush();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipe.recipe_service.dto.BulkImportResponseDTO;
+import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.ImportItemResultDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.RecipeChangeType;
+import com.recipe.recipe_service.entity.RecipeOutboxEvent;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.repository.RecipeOutboxRepository;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class RecipeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeImportService.class);
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeMapper recipeMapper;
+
+    @Autowired
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Autowired
+    private RecipeReadCache recipeReadCache;
+
+    @Autowired
+    private RecipeOutboxRepository recipeOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${recipe.import.max-items:10000}")
+    private int maxItems = 10000;
+
+    @Value("${recipe.import.chunk-size:500}")
+    private int chunkSize = 500;
+
+    public BulkImportResponseDTO importRecipes(List<CreateRecipeRequestDTO> requests, String userId) {
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException("A single import is limited to " + maxItems + " recipes");
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ImportItemResultDTO[] results = new ImportItemResultDTO[requests.size()];
+        List<Integer> pending = new ArrayList<>(chunkSize);
+        for (int i = 0; i < requests.size(); i++) {
+            CreateRecipeRequestDTO request = requests.get(i);
+            if (request == null || request.getTitle() == null || request.getTitle().isBlank()) {
+                results[i] = ImportItemResultDTO.failed(i, "Title is required");
+                continue;
+            }
+            pending.add(i);
+            if (pending.size() == chunkSize) {
+                importChunk(transaction, requests, pending, userId, results);
+                pending.clear();
+            }
+        }
+        if (!pending.isEmpty()) {
+            importChunk(transaction, requests, pending, userId, results);
+        }
+
+        BulkImportResponseDTO response = new BulkImportResponseDTO(Arrays.asList(results));
+        if (response.getImported() > 0) {
+            recipeReadCache.evictPublicPages();
+        }
+        logger.info("Imported {} of {} recipes for user {}", response.getImported(), response.getTotal(), userId);
+        return response;
+    }
+
+    // Each chunk is one transaction, so the inserts go out as JDBC batches. If anything in the chunk is
+    // rejected the whole chunk rolls back and is replayed one recipe per transaction, which pins the
+    // failure on the offending items without losing the rest.
+    private void importChunk(TransactionTemplate transaction, List<CreateRecipeRequestDTO> requests,
+                             List<Integer> indexes, String userId, ImportItemResultDTO[] results) {
+        try {
+            List<Recipe> saved = transaction.execute(status -> persist(
+                    indexes.stream().map(i -> toEntity(requests.get(i), userId)).toList()));
+            for (int i = 0; i < indexes.size(); i++) {
+                recordSuccess(indexes.get(i), saved.get(i), results);
+            }
+        } catch (RuntimeException chunkFailure) {
+            logger.warn("Import chunk of {} recipes failed, retrying individually: {}",
+                    indexes.size(), chunkFailure.getMessage());
+            for (Integer index : indexes) {
+                try {
+                    List<Recipe> saved = transaction.execute(status -> persist(
+                            List.of(toEntity(requests.get(index), userId))));
+                    recordSuccess(index, saved.get(0), results);
+                } catch (RuntimeException e) {
+                    results[index] = ImportItemResultDTO.failed(index,
+                            NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Recipe> persist(List<Recipe> recipes) {
+        List<Recipe> saved = recipeRepository.saveAll(recipes);
+        recipeOutboxRepository.saveAll(saved.stream()
+                .map(recipe -> new RecipeOutboxEvent(RecipeChangeType.CREATED, recipe))
+                .toList());
+        // Push the batch out now and detach it so the persistence context does not grow across chunks.
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    private void recordSuccess(int index, Recipe recipe, ImportItemResultDTO[] results) {
+        recipeIngredientIndex.index(recipe);
+        results[index] = ImportItemResultDTO.succeeded(index, recipe.getId());
+    }
+
+    private Recipe toEntity(CreateRecipeRequestDTO request, String userId) {
+        Recipe recipe = recipeMapper.toEntity(request);
+        recipe.setUserId(userId);
+        if (recipe.getVisibility() == null) {
+            recipe.setVisibility(Visibility.PUBLIC);
+        }
+        if (recipe.getIngredients() == null) {
+            recipe.setIngredients(new ArrayList<>());
+        }
+        if (recipe.getInstructions() == null) {
+            recipe.setInstructions(new ArrayList<>());
+        }
+        return recipe;
+    }
+}
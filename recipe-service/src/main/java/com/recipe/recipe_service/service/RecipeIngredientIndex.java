@@ -0,0 +1,332 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.RecipeIngredient;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+import com.recipe.recipe_service.util.IngredientNames;
+
+/**
+ * In-process inverted index from normalized ingredient name to recipe ids, used to answer
+ * pantry suggestion lookups without scanning {@code recipe_ingredients} on every request.
+ *
+ * <p>Posting lists and visibility are compressed bitmaps: one of all public recipe ids and one per owner.
+ * A lookup ORs the postings of the requested ingredients and keeps the ids that are in the public bitmap
+ * or the caller's own, so no recipe is tested against the visibility rule one by one. Bitmaps are not
+ * thread-safe; readers share a read lock and updates take the write lock.
+ */
+@Component
+public class RecipeIngredientIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeIngredientIndex.class);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Roaring64Bitmap> recipeIdsByIngredient = new HashMap<>();
+    private Map<String, Roaring64Bitmap> recipeIdsByOwner = new HashMap<>();
+    private Roaring64Bitmap publicRecipeIds = new Roaring64Bitmap();
+    private Map<Long, IndexedRecipe> recipesById = new HashMap<>();
+    private volatile boolean ready;
+
+    // Live index()/remove() calls made while a reload reads from the database, by recipe id (null for a
+    // removal). The rows the reload read may predate them, so they are replayed over its result. Guarded
+    // by the write lock; null when no reload is running. Reloads themselves are serialized.
+    private Map<Long, IndexedRecipe> changesDuringReload;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    record IndexedRecipe(Long id, String userId, Visibility visibility, Set<String> ingredients) {
+
+        static IndexedRecipe of(Recipe recipe) {
+            Set<String> ingredients = new HashSet<>();
+            for (RecipeIngredient ingredient : recipe.getIngredients()) {
+                String name = IngredientNames.normalize(ingredient.getName());
+                if (name != null) {
+                    ingredients.add(name);
+                }
+            }
+            return new IndexedRecipe(recipe.getId(), recipe.getUserId(), recipe.getVisibility(), ingredients);
+        }
+
+        boolean isVisibleTo(String requesterId) {
+            return visibility == Visibility.PUBLIC || (userId != null && userId.equals(requesterId));
+        }
+    }
+
+    // A pod that restored a snapshot at startup is already ready and skips the full load.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        reloadLock.lock();
+        try {
+            trackChanges(true);
+            Collection<IndexedRecipe> loaded;
+            try {
+                loaded = group(recipeRepository.findIngredientIndexRows());
+            } catch (RuntimeException e) {
+                trackChanges(false);
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                replaceLocked(loaded);
+                replayChangesLocked();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Indexed {} recipes over {} ingredients in {} ms",
+                    loaded.size(), recipeIdsByIngredient.size(), System.currentTimeMillis() - start);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public void restore(Collection<IndexedRecipe> recipes) {
+        lock.writeLock().lock();
+        try {
+            replaceLocked(recipes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-reads the recipes modified after the given instant and drops the ones deleted since, returning the
+    // ids of the modified ones. Deletions leave no row to compare timestamps on, so every indexed id is
+    // checked against the ids still in the table.
+    public Set<Long> applyChangesSince(Instant since) {
+        reloadLock.lock();
+        try {
+            trackChanges(true);
+            Collection<IndexedRecipe> changed;
+            Roaring64Bitmap existing = new Roaring64Bitmap();
+            try {
+                changed = group(recipeRepository.findIngredientIndexRowsUpdatedSince(since));
+                recipeRepository.findAllIds().forEach(existing::addLong);
+            } catch (RuntimeException e) {
+                trackChanges(false);
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                for (IndexedRecipe recipe : changed) {
+                    removeLocked(recipe.id());
+                    put(recipe);
+                }
+                List<Long> deleted = recipesById.keySet().stream()
+                        .filter(id -> !existing.contains(id))
+                        .toList();
+                deleted.forEach(this::removeLocked);
+                replayChangesLocked();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Set<Long> ids = new HashSet<>();
+            changed.forEach(recipe -> ids.add(recipe.id()));
+            return ids;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public List<IndexedRecipe> snapshot() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(recipesById.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isVisible(Long recipeId, String userId) {
+        lock.readLock().lock();
+        try {
+            IndexedRecipe recipe = recipesById.get(recipeId);
+            return recipe != null && recipe.isVisibleTo(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(Recipe recipe) {
+        IndexedRecipe indexed = IndexedRecipe.of(recipe);
+        lock.writeLock().lock();
+        try {
+            removeLocked(recipe.getId());
+            put(indexed);
+            if (changesDuringReload != null) {
+                changesDuringReload.put(indexed.id(), indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long recipeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(recipeId);
+            if (changesDuringReload != null) {
+                changesDuringReload.put(recipeId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Collection<IndexedRecipe> findVisibleRecipes(Collection<String> ingredientNames, String userId) {
+        List<String> names = IngredientNames.normalizeAll(ingredientNames);
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap candidates = new Roaring64Bitmap();
+            for (String name : names) {
+                Roaring64Bitmap ids = recipeIdsByIngredient.get(name);
+                if (ids != null) {
+                    candidates.or(ids);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+
+            // candidates AND (public OR owned), evaluated without copying the public bitmap.
+            Roaring64Bitmap owned = userId != null ? recipeIdsByOwner.get(userId) : null;
+            Roaring64Bitmap ownedCandidates = null;
+            if (owned != null) {
+                ownedCandidates = candidates.clone();
+                ownedCandidates.and(owned);
+            }
+            candidates.and(publicRecipeIds);
+            if (ownedCandidates != null) {
+                candidates.or(ownedCandidates);
+            }
+
+            List<IndexedRecipe> result = new ArrayList<>((int) candidates.getLongCardinality());
+            LongIterator ids = candidates.getLongIterator();
+            while (ids.hasNext()) {
+                IndexedRecipe recipe = recipesById.get(ids.next());
+                if (recipe != null) {
+                    result.add(recipe);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Live changes already went into the current structures, so a reload that fails simply drops them.
+    private void trackChanges(boolean tracking) {
+        lock.writeLock().lock();
+        try {
+            changesDuringReload = tracking ? new HashMap<>() : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replayChangesLocked() {
+        Map<Long, IndexedRecipe> changes = changesDuringReload;
+        changesDuringReload = null;
+        changes.forEach((id, recipe) -> {
+            removeLocked(id);
+            if (recipe != null) {
+                put(recipe);
+            }
+        });
+    }
+
+    private void replaceLocked(Collection<IndexedRecipe> recipes) {
+        recipeIdsByIngredient = new HashMap<>();
+        recipeIdsByOwner = new HashMap<>();
+        publicRecipeIds = new Roaring64Bitmap();
+        recipesById = new HashMap<>();
+        recipes.forEach(this::put);
+        recipeIdsByIngredient.values().forEach(Roaring64Bitmap::runOptimize);
+        publicRecipeIds.runOptimize();
+        ready = true;
+    }
+
+    private void removeLocked(Long recipeId) {
+        IndexedRecipe previous = recipesById.remove(recipeId);
+        if (previous == null) {
+            return;
+        }
+        for (String ingredient : previous.ingredients()) {
+            removeFrom(recipeIdsByIngredient, ingredient, recipeId);
+        }
+        if (previous.userId() != null) {
+            removeFrom(recipeIdsByOwner, previous.userId(), recipeId);
+        }
+        publicRecipeIds.removeLong(recipeId);
+    }
+
+    private void put(IndexedRecipe recipe) {
+        long id = recipe.id();
+        recipesById.put(id, recipe);
+        for (String ingredient : recipe.ingredients()) {
+            recipeIdsByIngredient.computeIfAbsent(ingredient, key -> new Roaring64Bitmap()).addLong(id);
+        }
+        if (recipe.userId() != null) {
+            recipeIdsByOwner.computeIfAbsent(recipe.userId(), key -> new Roaring64Bitmap()).addLong(id);
+        }
+        if (recipe.visibility() == Visibility.PUBLIC) {
+            publicRecipeIds.addLong(id);
+        }
+    }
+
+    private static Collection<IndexedRecipe> group(List<Object[]> rows) {
+        Map<Long, IndexedRecipe> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            IndexedRecipe recipe = grouped.computeIfAbsent(id,
+                    key -> new IndexedRecipe(key, (String) row[1], (Visibility) row[2], new HashSet<>()));
+            String ingredient = IngredientNames.normalize((String) row[3]);
+            if (ingredient != null) {
+                recipe.ingredients().add(ingredient);
+            }
+        }
+        return grouped.values();
+    }
+
+    private static void removeFrom(Map<String, Roaring64Bitmap> bitmaps, String key, long recipeId) {
+        Roaring64Bitmap ids = bitmaps.get(key);
+        if (ids != null) {
+            ids.removeLong(recipeId);
+            if (ids.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+
+@Component
+public class RecipeMatchScorer {
+
+    // Each matched ingredient that is about to expire counts this much extra coverage.
+    static final double EXPIRING_WEIGHT = 0.5;
+
+    private static final Comparator<RecipeMatch> RANKING = Comparator
+            .comparingDouble(RecipeMatch::score)
+            .thenComparing(Comparator.comparingInt(RecipeMatch::missing).reversed())
+            .thenComparing(Comparator.comparingLong(RecipeMatch::recipeId).reversed());
+
+    record RecipeMatch(Long recipeId, int matched, int missing, int expiringMatched, double score) {}
+
+    public List<RecipeMatch> topMatches(Collection<IndexedRecipe> candidates, Set<String> pantry,
+                                        Set<String> expiring, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // Min-heap of the best matches seen so far: the weakest one sits at the head and is the
+        // only one that has to be compared against each new candidate.
+        PriorityQueue<RecipeMatch> best = new PriorityQueue<>(limit, RANKING);
+        for (IndexedRecipe candidate : candidates) {
+            RecipeMatch match = score(candidate, pantry, expiring);
+            if (match.matched() == 0) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (RANKING.compare(match, best.peek()) > 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        List<RecipeMatch> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING.reversed());
+        return ranked;
+    }
+
+    RecipeMatch score(IndexedRecipe recipe, Set<String> pantry, Set<String> expiring) {
+        int total = recipe.ingredients().size();
+        int matched = 0;
+        int expiringMatched = 0;
+        for (String ingredient : recipe.ingredients()) {
+            if (pantry.contains(ingredient) || expiring.contains(ingredient)) {
+                matched++;
+            }
+            if (expiring.contains(ingredient)) {
+                expiringMatched++;
+            }
+        }
+        double score = total == 0 ? 0.0 : (matched + EXPIRING_WEIGHT * expiringMatched) / total;
+        return new RecipeMatch(recipe.id(), matched, total - matched, expiringMatched, score);
+    }
+}
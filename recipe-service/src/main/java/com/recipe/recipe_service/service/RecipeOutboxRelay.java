@@ -0,0 +1,98 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipe.recipe_service.dto.RecipeChangeEventDTO;
+import com.recipe.recipe_service.entity.RecipeOutboxEvent;
+import com.recipe.recipe_service.repository.RecipeOutboxRepository;
+
+/**
+ * Drains {@code recipe_outbox} to the {@link RecipeChangePublisher}. Each batch is claimed for
+ * {@code recipe.outbox.claim-timeout-ms} in a short transaction, published with no transaction or row lock
+ * held, then deleted. A failed delivery releases the claim so the same events go out on the next run; if
+ * the pod dies mid-delivery the claim expires and another relay picks the batch up.
+ */
+@Component
+public class RecipeOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeOutboxRelay.class);
+
+    @Autowired
+    private RecipeOutboxRepository recipeOutboxRepository;
+
+    @Autowired
+    private RecipeChangePublisher recipeChangePublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${recipe.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${recipe.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    @Value("${recipe.outbox.claim-timeout-ms:60000}")
+    private long claimTimeoutMs = 60000;
+
+    @Scheduled(fixedDelayString = "${recipe.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<RecipeOutboxEvent> events;
+            try {
+                events = transaction.execute(status -> claimNextBatch());
+            } catch (RuntimeException e) {
+                logger.warn("Claiming recipe change events failed, will retry: {}", e.getMessage());
+                return;
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+            try {
+                recipeChangePublisher.publish(events.stream().map(this::toDTO).toList());
+            } catch (RuntimeException e) {
+                logger.warn("Relaying recipe change events failed, will retry: {}", e.getMessage());
+                release(events);
+                return;
+            }
+            recipeOutboxRepository.deleteAllInBatch(events);
+            if (events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private List<RecipeOutboxEvent> claimNextBatch() {
+        Instant now = Instant.now();
+        List<RecipeOutboxEvent> events = recipeOutboxRepository.lockNextBatch(now, batchSize);
+        Instant claimedUntil = now.plusMillis(claimTimeoutMs);
+        events.forEach(event -> event.setClaimedUntil(claimedUntil));
+        return events;
+    }
+
+    private void release(List<RecipeOutboxEvent> events) {
+        events.forEach(event -> event.setClaimedUntil(null));
+        try {
+            recipeOutboxRepository.saveAll(events);
+        } catch (RuntimeException e) {
+            logger.warn("Releasing {} recipe change events failed, they are retried once the claim expires: {}",
+                    events.size(), e.getMessage());
+        }
+    }
+
+    private RecipeChangeEventDTO toDTO(RecipeOutboxEvent event) {
+        return new RecipeChangeEventDTO(event.getId(), event.getRecipeId(), event.getType(),
+                event.getUserId(), event.getVisibility(), event.getOccurredAt());
+    }
+}
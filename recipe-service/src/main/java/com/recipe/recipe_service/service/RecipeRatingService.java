@@ -0,0 +1,117 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Collects recipe votes in memory and folds them into {@code recipes.rating} / {@code rating_count}
+ * in periodic batches, so a burst of votes on one recipe never queues up on its row lock.
+ */
+@Service
+public class RecipeRatingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeRatingService.class);
+
+    static final int MIN_STARS = 1;
+    static final int MAX_STARS = 5;
+
+    // A vote is packed as (1 << 32) + stars, so a single add() updates the vote count (high bits) and the
+    // star total (low bits) together and a flush can never see one without the other.
+    private static final int COUNT_SHIFT = 32;
+    private static final long STARS_MASK = (1L << COUNT_SHIFT) - 1;
+
+    // Relative update: rating is recomputed from the row's current values, so flushes compose with each
+    // other and with any other writer. Postgres evaluates every SET expression against the old row. The
+    // version bump is what changes the recipe's ETag; owner edits that race it are retried by the controller.
+    private static final String FLUSH_SQL = "UPDATE recipes SET "
+            + "rating = (COALESCE(rating, 0) * COALESCE(rating_count, 0) + ?) / (COALESCE(rating_count, 0) + ?), "
+            + "rating_count = COALESCE(rating_count, 0) + ?, "
+            + "version = version + 1, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE id = ?";
+
+    // LongAdder stripes its cells across threads, so concurrent votes on the same recipe do not contend.
+    // Adders are never removed: dropping one could race with a vote that already holds it.
+    private final Map<Long, LongAdder> pendingVotes = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Autowired
+    private RecipeReadCache recipeReadCache;
+
+    public void rateRecipe(Long recipeId, int stars, String userId) {
+        if (stars < MIN_STARS || stars > MAX_STARS) {
+            throw new IllegalArgumentException("Stars must be between " + MIN_STARS + " and " + MAX_STARS);
+        }
+        if (!canRate(recipeId, userId)) {
+            throw new RuntimeException("Recipe not found");
+        }
+        pendingVotes.computeIfAbsent(recipeId, id -> new LongAdder()).add((1L << COUNT_SHIFT) + stars);
+    }
+
+    @Scheduled(fixedDelayString = "${recipe.rating.flush-interval-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        List<Long> recipeIds = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingVotes.entrySet()) {
+            // Each cell is swapped to zero individually: a vote that lands mid-drain is either part of
+            // this flush or stays behind for the next one, never lost or counted twice.
+            long packed = entry.getValue().sumThenReset();
+            if (packed == 0) {
+                continue;
+            }
+            long votes = packed >>> COUNT_SHIFT;
+            long stars = packed & STARS_MASK;
+            recipeIds.add(entry.getKey());
+            batch.add(new Object[] { stars, votes, votes, entry.getKey() });
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush ratings for {} recipes, will retry: {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                long restored = ((Long) row[1] << COUNT_SHIFT) + (Long) row[0];
+                pendingVotes.computeIfAbsent((Long) row[3], id -> new LongAdder()).add(restored);
+            }
+            return;
+        }
+
+        recipeIds.forEach(recipeReadCache::evictRecipe);
+        recipeReadCache.evictPublicPages();
+    }
+
+    private boolean canRate(Long recipeId, String userId) {
+        if (recipeIngredientIndex.isReady()) {
+            return recipeIngredientIndex.isVisible(recipeId, userId);
+        }
+        return recipeRepository.findById(recipeId)
+                .map(recipe -> recipe.getVisibility() == Visibility.PUBLIC || userId.equals(recipe.getUserId()))
+                .orElse(false);
+    }
+}
@@ -0,0 +1,123 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.recipe_service.dto.CursorPageDTO;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.dto.RecipeSummaryDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Read-through cache for the anonymous read paths. Entries are futures: the first reader of a key
+// installs one and runs the load itself, concurrent readers of the same key wait on it. The database
+// query therefore never runs inside Caffeine's per-key compute, which holds a monitor and would pin a
+// virtual thread for the whole query. An eviction issued during a load removes the pending entry, so
+// the stale result is handed to the readers already waiting and never cached.
+@Component
+public class RecipeReadCache {
+
+    private record PageKey(long beforeId, int size) {}
+
+    private final AsyncCache<Long, RecipeResponseDTO> recipesById;
+    private final AsyncCache<PageKey, CursorPageDTO<RecipeResponseDTO>> publicPages;
+    private final AsyncCache<PageKey, CursorPageDTO<RecipeSummaryDTO>> publicSummaryPages;
+
+    public RecipeReadCache(@Value("${recipe.cache.by-id.max-size:10000}") long maxRecipes,
+                           @Value("${recipe.cache.public-pages.max-size:500}") long maxPages,
+                           @Value("${recipe.cache.ttl-seconds:600}") long ttlSeconds,
+                           MeterRegistry meterRegistry) {
+        this.recipesById = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(maxRecipes)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .recordStats()
+                        .<Long, RecipeResponseDTO>buildAsync(),
+                "recipes.by-id");
+        this.publicPages = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(maxPages)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .recordStats()
+                        .<PageKey, CursorPageDTO<RecipeResponseDTO>>buildAsync(),
+                "recipes.public");
+        this.publicSummaryPages = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(maxPages)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .recordStats()
+                        .<PageKey, CursorPageDTO<RecipeSummaryDTO>>buildAsync(),
+                "recipes.public-summaries");
+    }
+
+    public RecipeResponseDTO getRecipe(Long id, Supplier<RecipeResponseDTO> loader) {
+        return getOrLoad(recipesById, id, loader);
+    }
+
+    public RecipeResponseDTO peekRecipe(Long id) {
+        return recipesById.synchronous().getIfPresent(id);
+    }
+
+    public void putRecipe(RecipeResponseDTO recipe) {
+        recipesById.synchronous().put(recipe.getId(), recipe);
+    }
+
+    public List<RecipeResponseDTO> cachedRecipes() {
+        return new ArrayList<>(recipesById.synchronous().asMap().values());
+    }
+
+    public CursorPageDTO<RecipeResponseDTO> getPublicPage(long beforeId, int size,
+                                                          Supplier<CursorPageDTO<RecipeResponseDTO>> loader) {
+        return getOrLoad(publicPages, new PageKey(beforeId, size), loader);
+    }
+
+    public CursorPageDTO<RecipeSummaryDTO> getPublicSummaryPage(long beforeId, int size,
+                                                                Supplier<CursorPageDTO<RecipeSummaryDTO>> loader) {
+        return getOrLoad(publicSummaryPages, new PageKey(beforeId, size), loader);
+    }
+
+    public void evictRecipe(Long id) {
+        recipesById.synchronous().invalidate(id);
+    }
+
+    public void evictPublicPages() {
+        publicPages.synchronous().invalidateAll();
+        publicSummaryPages.synchronous().invalidateAll();
+    }
+
+    // Only installing the future happens inside Caffeine's compute; the load runs after it. A load that
+    // returns null or fails completes the future that way and Caffeine drops the entry, so neither is
+    // cached.
+    private static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> pending);
+        if (future != pending) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            V value = loader.get();
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
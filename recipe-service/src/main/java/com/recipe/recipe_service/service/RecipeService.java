@@ -1,27 +1,52 @@
 package com.recipe.recipe_service.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.CursorPageDTO;
 import com.recipe.recipe_service.dto.PantryItem;
 import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.dto.RecipeSummaryDTO;
 import com.recipe.recipe_service.dto.UpdateRecipeRequestDTO;
 import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.RecipeChangeType;
+import com.recipe.recipe_service.entity.RecipeOutboxEvent;
 import com.recipe.recipe_service.entity.Visibility;
 import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.repository.RecipeOutboxRepository;
 import com.recipe.recipe_service.repository.RecipeRepository;
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+import com.recipe.recipe_service.service.RecipeMatchScorer.RecipeMatch;
+import com.recipe.recipe_service.util.Cursors;
+import com.recipe.recipe_service.util.ETags;
+import com.recipe.recipe_service.util.IngredientNames;
+import com.recipe.recipe_service.util.TransactionHooks;
 
-import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
 
 @Service
 @Transactional
 public class RecipeService {
 
+    static final int MAX_SUGGESTIONS = 100;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_IDS = 100;
+
     @Autowired
     private RecipeRepository recipeRepository;
 
@@ -31,71 +56,263 @@ public class RecipeService {
     @Autowired
     private RecipeMapper recipeMapper;
 
-    public List<RecipeResponseDTO> getRecipeSuggestions(String userId) {
-        List<PantryItem> pantryItems = pantryServiceClient.getUserPantry(userId);
-        List<String> availableIngredients = pantryItems.stream()
+    @Autowired
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Autowired
+    private RecipeMatchScorer recipeMatchScorer;
+
+    @Autowired
+    private RecipeReadCache recipeReadCache;
+
+    @Autowired
+    private RecipeOutboxRepository recipeOutboxRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private RecipeViewCounter recipeViewCounter;
+
+    @Transactional(readOnly = true)
+    public List<RecipeResponseDTO> getRecipeSuggestions(String userId, int limit) {
+        PantrySnapshot snapshot = loadPantry(userId);
+        return rankRecipes(snapshot.pantry(), snapshot.pantry(), snapshot.expiring(), userId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecipeResponseDTO> getUseItUpRecipes(String userId, int limit) {
+        PantrySnapshot snapshot = loadPantry(userId);
+        return rankRecipes(snapshot.expiring(), snapshot.pantry(), snapshot.expiring(), userId, limit);
+    }
+
+    public void onPantryChanged(String userId) {
+        pantryServiceClient.evictPantry(userId);
+        eventPublisher.publishEvent(new PantryChangedEvent(userId));
+    }
+
+    private record PantrySnapshot(Set<String> pantry, Set<String> expiring) {}
+
+    // Both pantry calls are issued concurrently; the wait is the slower of the two instead of their sum.
+    private PantrySnapshot loadPantry(String userId) {
+        return Mono.zip(pantryServiceClient.getUserPantryAsync(userId), pantryServiceClient.getExpiringItemsAsync(userId))
+                .map(items -> new PantrySnapshot(toIngredientNames(items.getT1()), toIngredientNames(items.getT2())))
+                .block();
+    }
+
+    private Set<String> toIngredientNames(List<PantryItem> items) {
+        return new LinkedHashSet<>(IngredientNames.normalizeAll(items.stream()
                 .map(PantryItem::getName)
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
+    }
 
-        List<Recipe> recipes;
-        if (availableIngredients.isEmpty()) {
-            recipes = recipeRepository.findVisibleRecipes(userId);
+    private List<RecipeResponseDTO> rankRecipes(Set<String> candidateIngredients, Set<String> pantry,
+                                                Set<String> expiring, String userId, int limit) {
+        int topK = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        if (candidateIngredients.isEmpty()) {
+            return recipeRepository.findVisibleRecipesBefore(userId, Long.MAX_VALUE, PageRequest.of(0, topK)).stream()
+                    .map(recipeMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+        }
+
+        List<String> names = List.copyOf(candidateIngredients);
+        Map<Long, Recipe> loaded = new HashMap<>();
+        List<RecipeMatch> matches;
+        if (recipeIngredientIndex.isReady()) {
+            matches = recipeMatchScorer.topMatches(
+                    recipeIngredientIndex.findVisibleRecipes(names, userId), pantry, expiring, topK);
+            if (!matches.isEmpty()) {
+                recipeRepository.findAllById(matches.stream().map(RecipeMatch::recipeId).toList())
+                        .forEach(recipe -> loaded.put(recipe.getId(), recipe));
+            }
         } else {
-            recipes = recipeRepository.findByIngredientNamesAndUser(availableIngredients, userId);
+            List<Recipe> recipes = recipeRepository.findByIngredientNamesAndUser(names, userId);
+            recipes.forEach(recipe -> loaded.put(recipe.getId(), recipe));
+            matches = recipeMatchScorer.topMatches(
+                    recipes.stream().map(IndexedRecipe::of).toList(), pantry, expiring, topK);
         }
 
-        return recipes.stream()
+        return matches.stream()
+                .map(match -> loaded.get(match.recipeId()))
+                .filter(Objects::nonNull)
                 .map(recipeMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
-    public List<RecipeResponseDTO> getUseItUpRecipes(String userId) {
-        List<PantryItem> expiringItems = pantryServiceClient.getExpiringItems(userId);
-        List<String> expiringIngredients = expiringItems.stream()
-                .map(PantryItem::getName)
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeResponseDTO> getAllRecipes(String userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<Recipe> recipes = recipeRepository.findVisibleRecipesBefore(
+                userId, Cursors.decodeBefore(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(recipes, pageSize);
+    }
 
-        List<Recipe> recipes;
-        if (expiringIngredients.isEmpty()) {
-            recipes = recipeRepository.findVisibleRecipes(userId);
-        } else {
-            recipes = recipeRepository.findByIngredientNamesAndUser(expiringIngredients, userId);
+    // Cache fills read from the primary: a replica lagging behind the write that just evicted the entry
+    // would otherwise put the old row back for the whole TTL.
+    public CursorPageDTO<RecipeResponseDTO> getPublicRecipes(String cursor, int size) {
+        int pageSize = pageSize(size);
+        long beforeId = Cursors.decodeBefore(cursor);
+        return recipeReadCache.getPublicPage(beforeId, pageSize, () -> toPage(
+                recipeRepository.findPublicRecipesBefore(beforeId, PageRequest.of(0, pageSize + 1)), pageSize));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeResponseDTO> getMyRecipes(String userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<Recipe> recipes = recipeRepository.findByUserIdAndIdLessThanOrderByIdDesc(
+                userId, Cursors.decodeBefore(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(recipes, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeSummaryDTO> getAllRecipeSummaries(String userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<RecipeSummaryDTO> summaries = recipeRepository.findVisibleRecipeSummariesBefore(
+                userId, Cursors.decodeBefore(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(summaries, pageSize, RecipeSummaryDTO::getId, Function.identity());
+    }
+
+    public CursorPageDTO<RecipeSummaryDTO> getPublicRecipeSummaries(String cursor, int size) {
+        int pageSize = pageSize(size);
+        long beforeId = Cursors.decodeBefore(cursor);
+        return recipeReadCache.getPublicSummaryPage(beforeId, pageSize, () -> toPage(
+                recipeRepository.findPublicRecipeSummariesBefore(beforeId, PageRequest.of(0, pageSize + 1)),
+                pageSize, RecipeSummaryDTO::getId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeSummaryDTO> getMyRecipeSummaries(String userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<RecipeSummaryDTO> summaries = recipeRepository.findRecipeSummariesByUserBefore(
+                userId, Cursors.decodeBefore(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(summaries, pageSize, RecipeSummaryDTO::getId, Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeResponseDTO> searchRecipes(String query, String userId, String cursor, int size) {
+        return searchPage(query, userId, cursor, size,
+                recipeRepository::findAllById, Recipe::getId, recipeMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeSummaryDTO> searchRecipeSummaries(String query, String userId, String cursor, int size) {
+        return searchPage(query, userId, cursor, size,
+                recipeRepository::findRecipeSummariesByIds, RecipeSummaryDTO::getId, Function.identity());
+    }
+
+    // The ranking query returns ids only; the page is then loaded in whichever shape was asked for and
+    // put back into rank order.
+    private <T, R> CursorPageDTO<R> searchPage(String query, String userId, String cursor, int size,
+                                               Function<List<Long>, List<T>> loader, Function<T, Long> idOf,
+                                               Function<T, R> mapper) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
         }
+        int pageSize = pageSize(size);
+        int offset = Cursors.decodeOffset(cursor);
+        List<Long> ids = recipeRepository.searchVisibleRecipeIds(
+                query.trim(), userId != null ? userId : "", offset, pageSize + 1);
 
-        return recipes.stream()
-                .map(recipeMapper::toResponseDTO)
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        Map<Long, T> loaded = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            loader.apply(pageIds).forEach(row -> loaded.put(idOf.apply(row), row));
+        }
+        List<R> items = pageIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .map(mapper)
                 .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, hasNext ? Cursors.encodeOffset(offset + pageSize) : null);
     }
 
-    public List<RecipeResponseDTO> getAllRecipes(String userId) {
-        List<Recipe> recipes = recipeRepository.findVisibleRecipes(userId);
-        return recipes.stream()
-                .map(recipeMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    private int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
     }
 
-    public List<RecipeResponseDTO> getPublicRecipes() {
-        List<Recipe> recipes = recipeRepository.findPublicRecipes();
-        return recipes.stream()
-                .map(recipeMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    private CursorPageDTO<RecipeResponseDTO> toPage(List<Recipe> recipes, int pageSize) {
+        return toPage(recipes, pageSize, Recipe::getId, recipeMapper::toResponseDTO);
     }
 
-    public List<RecipeResponseDTO> getMyRecipes(String userId) {
-        List<Recipe> recipes = recipeRepository.findByUserId(userId);
-        return recipes.stream()
-                .map(recipeMapper::toResponseDTO)
+    // Pages are fetched with one extra row so the presence of a next page is known without a count query.
+    private <T, R> CursorPageDTO<R> toPage(List<T> rows, int pageSize, Function<T, Long> idOf, Function<T, R> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? Cursors.encode(idOf.apply(page.get(page.size() - 1))) : null;
+        List<R> items = page.stream()
+                .map(mapper)
                 .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor);
+    }
+
+    // Validators for conditional GETs, computed from row versions only: a matching If-None-Match costs
+    // one scalar query (none when the recipe is cached) and never loads the element collections. They read
+    // from the primary so a lagging replica cannot confirm a copy the client has already seen superseded.
+    public Optional<String> getRecipeETag(Long id) {
+        RecipeResponseDTO cached = recipeReadCache.peekRecipe(id);
+        if (cached != null) {
+            return Optional.of(ETags.forRecipe(cached.getId(), cached.getVersion()));
+        }
+        return recipeRepository.findPublicRecipeVersion(id).map(version -> ETags.forRecipe(id, version));
+    }
+
+    public String getMyRecipesETag(String userId, String cursor, int size, String view) {
+        int pageSize = pageSize(size);
+        List<Object[]> rows = recipeRepository.findRecipeVersionsByUserBefore(
+                userId, Cursors.decodeBefore(cursor), PageRequest.of(0, pageSize + 1));
+        return ETags.forVersionRows(view, rows, pageSize);
     }
 
     public RecipeResponseDTO getRecipeById(Long id) {
-        Recipe recipe = recipeRepository.findById(id).orElse(null);
-        if (recipe != null && (recipe.getVisibility() == Visibility.PUBLIC) ){
-            return recipeMapper.toResponseDTO(recipe);
+        RecipeResponseDTO recipe = recipeReadCache.getRecipe(id, () -> recipeRepository.findById(id)
+                .filter(found -> found.getVisibility() == Visibility.PUBLIC)
+                .map(recipeMapper::toResponseDTO)
+                .orElse(null));
+        if (recipe != null) {
+            recipeViewCounter.record(id);
         }
-        return null;
+        return recipe;
+    }
+
+    // For reads answered with 304 from getRecipeETag, which only matches public recipes.
+    public void recordView(Long id) {
+        recipeViewCounter.record(id);
+    }
+
+    // Cached public recipes are answered from memory and the rest come from one findAllById, whose element
+    // collections load in batched queries. Ids the caller may not see are left out; the result keeps the
+    // requested order.
+    @Transactional(readOnly = true)
+    public List<RecipeResponseDTO> getRecipesByIds(List<Long> ids, String userId) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one recipe id is required");
+        }
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("A batch is limited to " + MAX_BATCH_IDS + " recipes");
+        }
+
+        Map<Long, RecipeResponseDTO> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : requested) {
+            RecipeResponseDTO cached = recipeReadCache.peekRecipe(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            recipeRepository.findAllById(misses).stream()
+                    .filter(recipe -> recipe.getVisibility() == Visibility.PUBLIC
+                            || (userId != null && userId.equals(recipe.getUserId())))
+                    .forEach(recipe -> found.put(recipe.getId(), recipeMapper.toResponseDTO(recipe)));
+        }
+        return requested.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     public RecipeResponseDTO createRecipe(CreateRecipeRequestDTO request, String userId) {
@@ -105,6 +322,14 @@ public class RecipeService {
             recipe.setVisibility(Visibility.PUBLIC);
         }
         Recipe savedRecipe = recipeRepository.save(recipe);
+        recipeOutboxRepository.save(new RecipeOutboxEvent(RecipeChangeType.CREATED, savedRecipe));
+        TransactionHooks.afterCommit(() -> {
+            recipeIngredientIndex.index(savedRecipe);
+            if (savedRecipe.getVisibility() == Visibility.PUBLIC) {
+                recipeReadCache.evictPublicPages();
+            }
+            eventPublisher.publishEvent(new RecipeCreatedEvent(savedRecipe));
+        });
         return recipeMapper.toResponseDTO(savedRecipe);
     }
 
@@ -112,96 +337,40 @@ public class RecipeService {
         Recipe existingRecipe = recipeRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new RuntimeException("Recipe not found or you don't have permission to update it"));
 
+        boolean wasPublic = existingRecipe.getVisibility() == Visibility.PUBLIC;
         recipeMapper.updateEntityFromRequest(request, existingRecipe);
+        if (request.getIngredients() != null) {
+            existingRecipe.updateIngredients(recipeMapper.toIngredients(request.getIngredients()));
+        }
+        if (request.getInstructions() != null) {
+            existingRecipe.updateInstructions(request.getInstructions());
+        }
+        // An ingredients-only edit does not dirty the recipe row, so @PreUpdate alone would miss it.
+        existingRecipe.refreshIngredientText();
         Recipe updatedRecipe = recipeRepository.save(existingRecipe);
+        recipeOutboxRepository.save(new RecipeOutboxEvent(RecipeChangeType.UPDATED, updatedRecipe));
+        TransactionHooks.afterCommit(() -> {
+            recipeIngredientIndex.index(updatedRecipe);
+            recipeReadCache.evictRecipe(id);
+            if (wasPublic || updatedRecipe.getVisibility() == Visibility.PUBLIC) {
+                recipeReadCache.evictPublicPages();
+            }
+        });
         return recipeMapper.toResponseDTO(updatedRecipe);
     }
 
     public void deleteRecipe(Long id, String userId) {
         Recipe recipe = recipeRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new RuntimeException("Recipe not found or you don't have permission to delete it"));
+        boolean wasPublic = recipe.getVisibility() == Visibility.PUBLIC;
         recipeRepository.delete(recipe);
+        recipeOutboxRepository.save(new RecipeOutboxEvent(RecipeChangeType.DELETED, recipe));
+        TransactionHooks.afterCommit(() -> {
+            recipeIngredientIndex.remove(id);
+            recipeReadCache.evictRecipe(id);
+            if (wasPublic) {
+                recipeReadCache.evictPublicPages();
+            }
+        });
     }
-
-    @PostConstruct
-    public void initSampleData() {
-        if (recipeRepository.count() == 0) {
-            Recipe pasta = new Recipe("1", "Tomato Pasta", "Simple and delicious tomato pasta", 20, 2, "EASY", Visibility.PUBLIC);
-            pasta.setImageUrl("https://www.lastingredient.com/wp-content/uploads/2014/09/fresh-tomato-sauce-with-roma-tomatoes1.jpg");
-            pasta.addIngredient("pasta", 200.0, "grams");
-            pasta.addIngredient("tomato", 4.0, "pieces");
-            pasta.addIngredient("garlic", 2.0, "cloves");
-            pasta.addIngredient("olive oil", 2.0, "tablespoons");
-            pasta.addInstruction("Cook pasta according to package instructions");
-            pasta.addInstruction("Chop tomatoes and garlic");
-            pasta.addInstruction("Sauté garlic in olive oil, add tomatoes");
-            pasta.addInstruction("Mix with cooked pasta and serve");
-            recipeRepository.save(pasta);
-
-            Recipe secretRecipe = new Recipe("1", "Secret Family Recipe", "A private family recipe", 30, 4, "MEDIUM", Visibility.PUBLIC);
-            secretRecipe.setImageUrl("https://www.momontimeout.com/wp-content/uploads/2019/05/chicken-marinade-square.jpeg");
-            secretRecipe.addIngredient("chicken", 500.0, "grams");
-            secretRecipe.addIngredient("secret sauce", 1.0, "bottle");
-            secretRecipe.addInstruction("Marinate chicken with secret sauce");
-            secretRecipe.addInstruction("Cook for 25 minutes");
-            secretRecipe.addInstruction("Serve hot");
-            recipeRepository.save(secretRecipe);
-
-            Recipe salad = new Recipe("1", "Green Salad", "Fresh green salad", 10, 1, "EASY", Visibility.PUBLIC);
-            salad.setImageUrl("https://getinspiredeveryday.com/wp-content/uploads/2022/02/Easy-Green-Salad-Get-Inspired-Everyday-7.jpg");
-            salad.addIngredient("lettuce", 1.0, "head");
-            salad.addIngredient("tomato", 2.0, "pieces");
-            salad.addIngredient("cucumber", 1.0, "piece");
-            salad.addIngredient("olive oil", 1.0, "tablespoon");
-            salad.addInstruction("Wash and chop all vegetables");
-            salad.addInstruction("Mix in a bowl");
-            salad.addInstruction("Drizzle with olive oil and serve");
-            recipeRepository.save(salad);
-
-            Recipe pancakes = new Recipe("1", "Fluffy Pancakes", "Easy homemade pancakes", 15, 2, "EASY", Visibility.PUBLIC);
-            pancakes.setImageUrl("https://www.bhg.com/thmb/B1Mbx1q9AgIEJ8PbQpPq0QPs820=/4000x0/filters:no_upscale():strip_icc()/bhg-recipe-pancakes-waffles-pancakes-Hero-01-372c4cad318d4373b6288e993a60ca62.jpg");
-            pancakes.addIngredient("flour", 200.0, "grams");
-            pancakes.addIngredient("milk", 250.0, "ml");
-            pancakes.addIngredient("egg", 1.0, "piece");
-            pancakes.addIngredient("sugar", 2.0, "tablespoons");
-            pancakes.addInstruction("Mix all ingredients until smooth");
-            pancakes.addInstruction("Pour batter onto hot skillet");
-            pancakes.addInstruction("Cook until golden on both sides");
-            recipeRepository.save(pancakes);
-
-            Recipe smoothie = new Recipe("1", "Berry Smoothie", "Refreshing mixed berry smoothie", 5, 1, "EASY", Visibility.PUBLIC);
-            smoothie.setImageUrl("https://www.lifeisbetterwithtea.com/wp-content/uploads/2022/07/Mixed-berry-smoothie-1.jpeg");
-            smoothie.addIngredient("strawberries", 100.0, "grams");
-            smoothie.addIngredient("blueberries", 50.0, "grams");
-            smoothie.addIngredient("banana", 1.0, "piece");
-            smoothie.addIngredient("yogurt", 100.0, "grams");
-            smoothie.addInstruction("Blend all ingredients until smooth");
-            smoothie.addInstruction("Serve chilled");
-            recipeRepository.save(smoothie);
-
-            Recipe omelette = new Recipe("1", "Cheese Omelette", "Classic breakfast omelette", 10, 1, "EASY", Visibility.PUBLIC);
-            omelette.setImageUrl("https://cdn.pixabay.com/photo/2023/12/02/14/53/egg-8425819_1280.jpg");
-            omelette.addIngredient("egg", 2.0, "pieces");
-            omelette.addIngredient("cheese", 50.0, "grams");
-            omelette.addIngredient("salt", 1.0, "pinch");
-            omelette.addIngredient("butter", 1.0, "teaspoon");
-            omelette.addInstruction("Beat eggs with salt");
-            omelette.addInstruction("Melt butter in skillet");
-            omelette.addInstruction("Cook eggs, add cheese, fold and serve");
-            recipeRepository.save(omelette);
-
-            Recipe pastaSalad = new Recipe("1", "Mediterranean Pasta Salad", "Healthy pasta salad with veggies", 20, 3, "MEDIUM", Visibility.PUBLIC);
-            pastaSalad.setImageUrl("https://www.livingwellwithnic.com/wp-content/uploads/2020/03/Meditteranean-Pasta-Salad.jpg");
-            pastaSalad.addIngredient("pasta", 200.0, "grams");
-            pastaSalad.addIngredient("cherry tomatoes", 100.0, "grams");
-            pastaSalad.addIngredient("cucumber", 1.0, "piece");
-            pastaSalad.addIngredient("feta cheese", 50.0, "grams");
-            pastaSalad.addIngredient("olive oil", 2.0, "tablespoons");
-            pastaSalad.addInstruction("Cook pasta and let cool");
-            pastaSalad.addInstruction("Chop vegetables and mix with pasta");
-            pastaSalad.addInstruction("Add feta and olive oil, toss gently");
-            recipeRepository.save(pastaSalad);
-        
-    }
-}
 }
@@ -0,0 +1,198 @@
+package com.recipe.recipe_service.service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.recipe.recipe_service.dto.PantryItem;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+import com.recipe.recipe_service.util.IngredientNames;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Live suggestion feeds over Server-Sent Events. An open stream is just a registered {@link SseEmitter}:
+ * the servlet thread is released as soon as the stream is opened, and pushes are driven by recipe and
+ * pantry events on the Reactor schedulers, so connections cost no thread while idle.
+ *
+ * <p>Suggestion queries and writes to the streams run on a small dedicated scheduler, which also bounds how
+ * many suggestion queries a burst of pantry changes can put on the database at once.
+ *
+ * <p>A stream starts with a {@code suggestions} event carrying the current top suggestions and receives
+ * a fresh one whenever the user's pantry changes. Newly created public recipes that use anything in the
+ * pantry are pushed individually as {@code recipe-matched} events.
+ */
+@Component
+public class RecipeSuggestionStreams {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeSuggestionStreams.class);
+
+    static final String SUGGESTIONS_EVENT = "suggestions";
+    static final String RECIPE_MATCHED_EVENT = "recipe-matched";
+
+    private final Map<String, Set<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Scheduler streamScheduler = Schedulers.newBoundedElastic(4, 10000, "suggestion-streams");
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private PantryServiceClient pantryServiceClient;
+
+    @Autowired
+    private RecipeMatchScorer recipeMatchScorer;
+
+    @Autowired
+    private RecipeMapper recipeMapper;
+
+    @Value("${recipe.suggestions.stream.timeout-ms:1800000}")
+    private long timeoutMs = 1800000;
+
+    @Value("${recipe.suggestions.stream.max-connections:10000}")
+    private int maxConnections = 10000;
+
+    @Value("${recipe.suggestions.stream.limit:10}")
+    private int suggestionLimit = 10;
+
+    @Value("${recipe.suggestions.stream.match-concurrency:16}")
+    private int matchConcurrency = 16;
+
+    public SseEmitter subscribe(String userId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("Too many open suggestion streams");
+        }
+        SseEmitter emitter = newEmitter();
+        emittersByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> unregister(userId, emitter));
+        emitter.onTimeout(() -> unregister(userId, emitter));
+        emitter.onError(error -> unregister(userId, emitter));
+
+        pushSuggestions(userId, List.of(emitter));
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    int openStreams() {
+        return connections.get();
+    }
+
+    @EventListener
+    public void onPantryChanged(PantryChangedEvent event) {
+        Set<SseEmitter> emitters = emittersByUser.get(event.userId());
+        if (emitters != null) {
+            pushSuggestions(event.userId(), emitters);
+        }
+    }
+
+    // Only the new recipe is scored against each connected user's pantry. Pantries are read through the
+    // snapshot cache; misses are fetched from pantry-service with at most match-concurrency requests in
+    // flight, so a new recipe with many open streams does not fire one call per connected user at once.
+    @EventListener
+    public void onRecipeCreated(RecipeCreatedEvent event) {
+        Recipe recipe = event.recipe();
+        if (recipe.getVisibility() != Visibility.PUBLIC || emittersByUser.isEmpty()) {
+            return;
+        }
+        IndexedRecipe candidate = IndexedRecipe.of(recipe);
+        RecipeResponseDTO dto = recipeMapper.toResponseDTO(recipe);
+        Flux.fromIterable(List.copyOf(emittersByUser.keySet()))
+                .flatMap(userId -> Mono.zip(pantryServiceClient.getUserPantryAsync(userId),
+                                        pantryServiceClient.getExpiringItemsAsync(userId))
+                                .filter(items -> recipeMatchScorer.score(candidate,
+                                        toIngredientNames(items.getT1()), toIngredientNames(items.getT2())).matched() > 0)
+                                .map(items -> userId)
+                                .onErrorResume(error -> {
+                                    logger.warn("Could not match recipe {} for user {}: {}",
+                                            recipe.getId(), userId, error.getMessage());
+                                    return Mono.empty();
+                                }),
+                        matchConcurrency)
+                .subscribeOn(streamScheduler)
+                .publishOn(streamScheduler)
+                .subscribe(userId -> send(userId, () -> SseEmitter.event().name(RECIPE_MATCHED_EVENT).data(dto)));
+    }
+
+    // Keeps idle connections open through proxies and flushes out clients that have gone away.
+    @Scheduled(fixedDelayString = "${recipe.suggestions.stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        streamScheduler.schedule(() -> {
+            for (String userId : emittersByUser.keySet()) {
+                send(userId, () -> SseEmitter.event().comment("keepalive"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emittersByUser.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        streamScheduler.dispose();
+    }
+
+    private void pushSuggestions(String userId, Collection<SseEmitter> emitters) {
+        Mono.fromCallable(() -> recipeService.getRecipeSuggestions(userId, suggestionLimit))
+                .subscribeOn(streamScheduler)
+                .subscribe(suggestions -> send(userId, List.copyOf(emitters),
+                                () -> SseEmitter.event().name(SUGGESTIONS_EVENT).data(suggestions)),
+                        error -> logger.warn("Could not compute suggestions for user {}: {}", userId, error.getMessage()));
+    }
+
+    private void send(String userId, Supplier<SseEventBuilder> event) {
+        Set<SseEmitter> emitters = emittersByUser.get(userId);
+        if (emitters != null) {
+            send(userId, List.copyOf(emitters), event);
+        }
+    }
+
+    // An event builder can only be rendered once, hence one per emitter.
+    private void send(String userId, Collection<SseEmitter> emitters, Supplier<SseEventBuilder> event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                unregister(userId, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void unregister(String userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (key, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private Set<String> toIngredientNames(List<PantryItem> items) {
+        return Set.copyOf(IngredientNames.normalizeAll(items.stream().map(PantryItem::getName).toList()));
+    }
+}
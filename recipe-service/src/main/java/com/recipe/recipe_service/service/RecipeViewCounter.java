@@ -0,0 +1,181 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Counts recipe views for the trending ranking without touching the database on the read path. A view is
+ * one slot in a ring buffer picked by the calling thread; a background flush drains the buffers, sums the
+ * views per recipe and upserts them into {@code recipe_view_counts} as one JDBC batch.
+ *
+ * <p>Recording never blocks and never allocates. When a buffer is full or its slot is taken concurrently
+ * the view is dropped and counted in {@code recipe.views.dropped}; the ranking only needs proportions.
+ * Views that cannot be written are kept for the next flush, up to {@code recipe.views.max-pending} recipes;
+ * beyond that the recipes pending longest are dropped and counted the same way.
+ */
+@Component
+public class RecipeViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeViewCounter.class);
+
+    // The stored score is decayed to the current time before the new views are added.
+    private static final String FLUSH_SQL = "INSERT INTO recipe_view_counts (recipe_id, total_views, score, updated_at) "
+            + "VALUES (?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT (recipe_id) DO UPDATE SET "
+            + "total_views = recipe_view_counts.total_views + EXCLUDED.total_views, "
+            + "score = recipe_view_counts.score * EXP(-EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - recipe_view_counts.updated_at)) / ?) "
+            + "+ EXCLUDED.score, "
+            + "updated_at = CURRENT_TIMESTAMP";
+
+    private static final class Stripe {
+        final AtomicLongArray slots;
+        final AtomicLong writes = new AtomicLong();
+        volatile long reads;
+
+        Stripe(int capacity) {
+            this.slots = new AtomicLongArray(capacity);
+        }
+    }
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int slotMask;
+    private final Counter dropped;
+
+    // Views drained but not yet written, oldest recipe first; only touched under drainLock.
+    private final Map<Long, Long> pending = new LinkedHashMap<>();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${recipe.views.half-life-hours:24}")
+    private double halfLifeHours = 24;
+
+    @Value("${recipe.views.max-pending:50000}")
+    private int maxPending = 50000;
+
+    public RecipeViewCounter(@Value("${recipe.views.buffer-size:1024}") int bufferSize, MeterRegistry meterRegistry) {
+        int stripeCount = powerOfTwoAtLeast(Runtime.getRuntime().availableProcessors() * 2);
+        int capacity = powerOfTwoAtLeast(bufferSize);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.slotMask = capacity - 1;
+        this.dropped = Counter.builder("recipe.views.dropped").register(meterRegistry);
+    }
+
+    public void record(long recipeId) {
+        Stripe stripe = stripes[stripeIndex()];
+        long tail = stripe.writes.get();
+        if (tail - stripe.reads > slotMask || !stripe.writes.compareAndSet(tail, tail + 1)) {
+            dropped.increment();
+            return;
+        }
+        stripe.slots.lazySet((int) (tail & slotMask), recipeId);
+    }
+
+    @Scheduled(fixedDelayString = "${recipe.views.flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        drainLock.lock();
+        try {
+            drain();
+            if (pending.isEmpty()) {
+                return;
+            }
+            double decaySeconds = decaySeconds();
+            List<Object[]> batch = new ArrayList<>(pending.size());
+            pending.forEach((recipeId, views) -> batch.add(new Object[] { recipeId, views, views, decaySeconds }));
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                pending.clear();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to flush views for {} recipes, will retry: {}", batch.size(), e.getMessage());
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // The time constant of the exponential decay, so a view counts half after one half-life.
+    double decaySeconds() {
+        return halfLifeHours * 3600 / Math.log(2);
+    }
+
+    Map<Long, Long> pendingViews() {
+        drainLock.lock();
+        try {
+            drain();
+            return new HashMap<>(pending);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void drain() {
+        for (Stripe stripe : stripes) {
+            long head = stripe.reads;
+            long tail = stripe.writes.get();
+            while (head < tail) {
+                // A claimed slot is published right after its CAS; stop at one that is not filled in yet
+                // and pick it up on the next drain.
+                long recipeId = stripe.slots.getAndSet((int) (head & slotMask), 0);
+                if (recipeId == 0) {
+                    break;
+                }
+                pending.merge(recipeId, 1L, Long::sum);
+                head++;
+            }
+            stripe.reads = head;
+        }
+        trimPending();
+    }
+
+    // Keeps a database outage from growing the pending map without bound.
+    private void trimPending() {
+        int recipes = 0;
+        long views = 0;
+        Iterator<Long> oldest = pending.values().iterator();
+        while (pending.size() > maxPending) {
+            views += oldest.next();
+            oldest.remove();
+            recipes++;
+        }
+        if (recipes > 0) {
+            dropped.increment(views);
+            logger.warn("Dropped {} unflushed views of {} recipes over the {} recipe pending limit",
+                    views, recipes, maxPending);
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().threadId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & stripeMask;
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+/**
+ * Seeds a handful of demo recipes into an empty database. Only active under the {@code sample-data}
+ * profile, and only once the service is accepting traffic: the seeding runs on the task executor after
+ * the ingredient index has been built, so it never delays readiness.
+ */
+@Component
+@Profile("sample-data")
+public class SampleDataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SampleDataSeeder.class);
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Autowired
+    private RecipeReadCache recipeReadCache;
+
+    @Async
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && started.compareAndSet(false, true)) {
+            seed();
+        }
+    }
+
+    void seed() {
+        if (recipeRepository.count() > 0) {
+            return;
+        }
+        List<Recipe> saved = recipeRepository.saveAll(sampleRecipes());
+        saved.forEach(recipeIngredientIndex::index);
+        recipeReadCache.evictPublicPages();
+        logger.info("Seeded {} sample recipes", saved.size());
+    }
+
+    static List<Recipe> sampleRecipes() {
+        List<Recipe> recipes = new ArrayList<>();
+
+        Recipe pasta = new Recipe("1", "Tomato Pasta", "Simple and delicious tomato pasta", 20, 2, "EASY", Visibility.PUBLIC);
+        pasta.setImageUrl("https://www.lastingredient.com/wp-content/uploads/2014/09/fresh-tomato-sauce-with-roma-tomatoes1.jpg");
+        pasta.addIngredient("pasta", 200.0, "grams");
+        pasta.addIngredient("tomato", 4.0, "pieces");
+        pasta.addIngredient("garlic", 2.0, "cloves");
+        pasta.addIngredient("olive oil", 2.0, "tablespoons");
+        pasta.addInstruction("Cook pasta according to package instructions");
+        pasta.addInstruction("Chop tomatoes and garlic");
+        pasta.addInstruction("Sauté garlic in olive oil, add tomatoes");
+        pasta.addInstruction("Mix with cooked pasta and serve");
+        recipes.add(pasta);
+
+        Recipe secretRecipe = new Recipe("1", "Secret Family Recipe", "A private family recipe", 30, 4, "MEDIUM", Visibility.PUBLIC);
+        secretRecipe.setImageUrl("https://www.momontimeout.com/wp-content/uploads/2019/05/chicken-marinade-square.jpeg");
+        secretRecipe.addIngredient("chicken", 500.0, "grams");
+        secretRecipe.addIngredient("secret sauce", 1.0, "bottle");
+        secretRecipe.addInstruction("Marinate chicken with secret sauce");
+        secretRecipe.addInstruction("Cook for 25 minutes");
+        secretRecipe.addInstruction("Serve hot");
+        recipes.add(secretRecipe);
+
+        Recipe salad = new Recipe("1", "Green Salad", "Fresh green salad", 10, 1, "EASY", Visibility.PUBLIC);
+        salad.setImageUrl("https://getinspiredeveryday.com/wp-content/uploads/2022/02/Easy-Green-Salad-Get-Inspired-Everyday-7.jpg");
+        salad.addIngredient("lettuce", 1.0, "head");
+        salad.addIngredient("tomato", 2.0, "pieces");
+        salad.addIngredient("cucumber", 1.0, "piece");
+        salad.addIngredient("olive oil", 1.0, "tablespoon");
+        salad.addInstruction("Wash and chop all vegetables");
+        salad.addInstruction("Mix in a bowl");
+        salad.addInstruction("Drizzle with olive oil and serve");
+        recipes.add(salad);
+
+        Recipe pancakes = new Recipe("1", "Fluffy Pancakes", "Easy homemade pancakes", 15, 2, "EASY", Visibility.PUBLIC);
+        pancakes.setImageUrl("https://www.bhg.com/thmb/B1Mbx1q9AgIEJ8PbQpPq0QPs820=/4000x0/filters:no_upscale():strip_icc()/bhg-recipe-pancakes-waffles-pancakes-Hero-01-372c4cad318d4373b6288e993a60ca62.jpg");
+        pancakes.addIngredient("flour", 200.0, "grams");
+        pancakes.addIngredient("milk", 250.0, "ml");
+        pancakes.addIngredient("egg", 1.0, "piece");
+        pancakes.addIngredient("sugar", 2.0, "tablespoons");
+        pancakes.addInstruction("Mix all ingredients until smooth");
+        pancakes.addInstruction("Pour batter onto hot skillet");
+        pancakes.addInstruction("Cook until golden on both sides");
+        recipes.add(pancakes);
+
+        Recipe smoothie = new Recipe("1", "Berry Smoothie", "Refreshing mixed berry smoothie", 5, 1, "EASY", Visibility.PUBLIC);
+        smoothie.setImageUrl("https://www.lifeisbetterwithtea.com/wp-content/uploads/2022/07/Mixed-berry-smoothie-1.jpeg");
+        smoothie.addIngredient("strawberries", 100.0, "grams");
+        smoothie.addIngredient("blueberries", 50.0, "grams");
+        smoothie.addIngredient("banana", 1.0, "piece");
+        smoothie.addIngredient("yogurt", 100.0, "grams");
+        smoothie.addInstruction("Blend all ingredients until smooth");
+        smoothie.addInstruction("Serve chilled");
+        recipes.add(smoothie);
+
+        Recipe omelette = new Recipe("1", "Cheese Omelette", "Classic breakfast omelette", 10, 1, "EASY", Visibility.PUBLIC);
+        omelette.setImageUrl("https://cdn.pixabay.com/photo/2023/12/02/14/53/egg-8425819_1280.jpg");
+        omelette.addIngredient("egg", 2.0, "pieces");
+        omelette.addIngredient("cheese", 50.0, "grams");
+        omelette.addIngredient("salt", 1.0, "pinch");
+        omelette.addIngredient("butter", 1.0, "teaspoon");
+        omelette.addInstruction("Beat eggs with salt");
+        omelette.addInstruction("Melt butter in skillet");
+        omelette.addInstruction("Cook eggs, add cheese, fold and serve");
+        recipes.add(omelette);
+
+        Recipe pastaSalad = new Recipe("1", "Mediterranean Pasta Salad", "Healthy pasta salad with veggies", 20, 3, "MEDIUM", Visibility.PUBLIC);
+        pastaSalad.setImageUrl("https://www.livingwellwithnic.com/wp-content/uploads/2020/03/Meditteranean-Pasta-Salad.jpg");
+        pastaSalad.addIngredient("pasta", 200.0, "grams");
+        pastaSalad.addIngredient("cherry tomatoes", 100.0, "grams");
+        pastaSalad.addIngredient("cucumber", 1.0, "piece");
+        pastaSalad.addIngredient("feta cheese", 50.0, "grams");
+        pastaSalad.addIngredient("olive oil", 2.0, "tablespoons");
+        pastaSalad.addInstruction("Cook pasta and let cool");
+        pastaSalad.addInstruction("Chop vegetables and mix with pasta");
+        pastaSalad.addInstruction("Add feta and olive oil, toss gently");
+        recipes.add(pastaSalad);
+        return recipes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.repository.RecipeViewCountRepository;
+
+/**
+ * The most viewed public recipes, ranked by decayed view score. The list is recomputed on a schedule and
+ * requests are answered from the last result, so {@code /trending} never queries the database.
+ */
+@Service
+public class TrendingRecipes {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingRecipes.class);
+
+    private volatile List<RecipeResponseDTO> trending = List.of();
+
+    @Autowired
+    private RecipeViewCountRepository recipeViewCountRepository;
+
+    @Autowired
+    private RecipeViewCounter recipeViewCounter;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Value("${recipe.views.trending-size:20}")
+    private int trendingSize = 20;
+
+    public List<RecipeResponseDTO> getTrending(int limit) {
+        List<RecipeResponseDTO> current = trending;
+        return limit > 0 && limit < current.size() ? current.subList(0, limit) : current;
+    }
+
+    // Ids are over-fetched because recipes deleted or made private since they were viewed are dropped when
+    // the page is resolved.
+    @Scheduled(fixedDelayString = "${recipe.views.trending-refresh-ms:60000}")
+    public void refresh() {
+        int size = Math.min(trendingSize, RecipeService.MAX_BATCH_IDS);
+        try {
+            List<Long> ids = recipeViewCountRepository.findTrendingRecipeIds(
+                    recipeViewCounter.decaySeconds(), Math.min(size * 2, RecipeService.MAX_BATCH_IDS));
+            List<RecipeResponseDTO> recipes = ids.isEmpty() ? List.of() : recipeService.getRecipesByIds(ids, null);
+            trending = List.copyOf(recipes.subList(0, Math.min(size, recipes.size())));
+        } catch (RuntimeException e) {
+            logger.warn("Recomputing trending recipes failed, keeping the previous list: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.recipe.recipe_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque page tokens. Keyset pages wrap the last id of the previous page; ranked results (search)
+// cannot be keyed by id and wrap the row offset of the next page instead.
+public final class Cursors {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "off:";
+
+    private Cursors() {}
+
+    public static String encode(long lastId) {
+        return wrap(ID_PREFIX, lastId);
+    }
+
+    public static long decode(String cursor) {
+        return unwrap(ID_PREFIX, cursor);
+    }
+
+    // Upper id bound of a newest-first keyset page; the first page has none.
+    public static long decodeBefore(String cursor) {
+        return cursor == null || cursor.isBlank() ? Long.MAX_VALUE : decode(cursor);
+    }
+
+    public static String encodeOffset(int offset) {
+        return wrap(OFFSET_PREFIX, offset);
+    }
+
+    public static int decodeOffset(String cursor) {
+        long offset = unwrap(OFFSET_PREFIX, cursor);
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return (int) offset;
+    }
+
+    private static String wrap(String prefix, long value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long unwrap(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
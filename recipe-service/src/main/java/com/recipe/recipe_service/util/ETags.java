@@ -0,0 +1,43 @@
+package com.recipe.recipe_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+import com.recipe.recipe_service.dto.VersionedRecipe;
+
+// Strong ETags derived from row versions. A page tag covers the representation (summary or full), the
+// (id, version) of every recipe on it and whether a next page exists, so it changes whenever the body
+// would; it can be computed from a scalar (id, version) query without building the page.
+public final class ETags {
+
+    private ETags() {}
+
+    public static String forRecipe(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    public static String forPage(String view, List<? extends VersionedRecipe> items, boolean hasNext) {
+        StringBuilder key = new StringBuilder(view);
+        for (VersionedRecipe item : items) {
+            key.append(';').append(item.getId()).append(':').append(item.getVersion());
+        }
+        return forKey(key, hasNext);
+    }
+
+    // Rows are (id, version) pairs fetched with one extra row, the same way the pages themselves are.
+    public static String forVersionRows(String view, List<Object[]> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        StringBuilder key = new StringBuilder(view);
+        for (Object[] row : hasNext ? rows.subList(0, pageSize) : rows) {
+            key.append(';').append(row[0]).append(':').append(row[1]);
+        }
+        return forKey(key, hasNext);
+    }
+
+    private static String forKey(StringBuilder key, boolean hasNext) {
+        key.append(hasNext ? ";more" : ";end");
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
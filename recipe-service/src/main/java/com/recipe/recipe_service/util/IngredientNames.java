@@ -0,0 +1,68 @@
+package com.recipe.recipe_service.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Canonical form of an ingredient name, shared by recipe ingredients (stored in normalized_name) and
+// pantry items so the two sides compare equal: trimmed, lowercased, single-spaced, last word singular.
+public final class IngredientNames {
+
+    private static final Map<String, String> IRREGULAR_PLURALS = Map.of(
+            "leaves", "leaf",
+            "loaves", "loaf",
+            "halves", "half",
+            "knives", "knife",
+            "cookies", "cookie",
+            "geese", "goose",
+            "mice", "mouse");
+
+    private static final Set<String> UNCOUNTABLE = Set.of(
+            "asparagus", "couscous", "hummus", "molasses", "swiss", "series", "species", "grits");
+
+    private IngredientNames() {}
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = name.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        int lastSpace = normalized.lastIndexOf(' ');
+        return normalized.substring(0, lastSpace + 1) + singularize(normalized.substring(lastSpace + 1));
+    }
+
+    public static List<String> normalizeAll(Collection<String> names) {
+        return names.stream()
+                .map(IngredientNames::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    static String singularize(String word) {
+        String irregular = IRREGULAR_PLURALS.get(word);
+        if (irregular != null) {
+            return irregular;
+        }
+        if (word.length() <= 3 || UNCOUNTABLE.contains(word)) {
+            return word;
+        }
+        if (word.endsWith("ies") && word.length() > 4) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("oes") || word.endsWith("ches") || word.endsWith("shes")
+                || word.endsWith("sses") || word.endsWith("xes") || word.endsWith("zes")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+}
@@ -0,0 +1,24 @@
+package com.recipe.recipe_service.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionHooks {
+
+    private TransactionHooks() {}
+
+    // Runs the action once the surrounding transaction commits, or immediately when there is none,
+    // so in-memory structures never observe rows that end up rolled back.
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+-- recipes.id used to be an identity column. Make sure the pooled sequence starts past every id that
+-- already exists; GREATEST keeps the sequence from moving backwards on later restarts.
+CREATE SEQUENCE IF NOT EXISTS recipes_seq INCREMENT BY 50;
+SELECT setval('recipes_seq', GREATEST((SELECT last_value FROM recipes_seq), (SELECT COALESCE(MAX(id), 0) FROM recipes) + 50));
+
+-- Recipe search: a weighted tsvector over title, ingredient names and description, plus trigram
+-- matching on the title for typos and partial words.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+UPDATE recipes r SET ingredient_text = names.ingredient_text
+FROM (SELECT recipe_id, string_agg(name, ' ') AS ingredient_text FROM recipe_ingredients GROUP BY recipe_id) names
+WHERE r.id = names.recipe_id AND r.ingredient_text IS NULL;
+ALTER TABLE recipes ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(ingredient_text, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')) STORED;
+CREATE INDEX IF NOT EXISTS idx_recipes_search_vector ON recipes USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_recipes_title_trgm ON recipes USING GIN (title gin_trgm_ops);
+
+-- Ingredients and instructions are ordered by a position column. Hibernate cannot add it as NOT NULL to
+-- tables that already have rows, so it is added nullable here, rows written before it existed are
+-- numbered in physical order (the order they used to be loaded in), and only then is it made NOT NULL.
+ALTER TABLE recipe_ingredients ADD COLUMN IF NOT EXISTS position integer;
+UPDATE recipe_ingredients t SET position = numbered.position
+FROM (SELECT ctid, ROW_NUMBER() OVER (PARTITION BY recipe_id ORDER BY ctid) - 1 AS position
+      FROM recipe_ingredients WHERE position IS NULL) numbered
+WHERE t.ctid = numbered.ctid;
+ALTER TABLE recipe_ingredients ALTER COLUMN position SET NOT NULL;
+ALTER TABLE recipe_instructions ADD COLUMN IF NOT EXISTS position integer;
+UPDATE recipe_instructions t SET position = numbered.position
+FROM (SELECT ctid, ROW_NUMBER() OVER (PARTITION BY recipe_id ORDER BY ctid) - 1 AS position
+      FROM recipe_instructions WHERE position IS NULL) numbered
+WHERE t.ctid = numbered.ctid;
+ALTER TABLE recipe_instructions ALTER COLUMN position SET NOT NULL;
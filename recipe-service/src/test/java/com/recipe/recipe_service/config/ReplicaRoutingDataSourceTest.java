@@ -0,0 +1,49 @@
+package com.recipe.recipe_service.config;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReplicaRoutingDataSourceTest {
+
+    @Test
+    void getConnection_RotatesAcrossReplicas() throws Exception {
+        HikariDataSource first = mock(HikariDataSource.class);
+        HikariDataSource second = mock(HikariDataSource.class);
+        Connection firstConnection = mock(Connection.class);
+        Connection secondConnection = mock(Connection.class);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(first, second));
+        dataSource.afterPropertiesSet();
+
+        assertSame(firstConnection, dataSource.getConnection());
+        assertSame(secondConnection, dataSource.getConnection());
+        assertSame(firstConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void close_ClosesEveryReplicaPool() {
+        HikariDataSource first = mock(HikariDataSource.class);
+        HikariDataSource second = mock(HikariDataSource.class);
+
+        new ReplicaRoutingDataSource(List.of(first, second)).close();
+
+        verify(first).close();
+        verify(second).close();
+    }
+
+    @Test
+    void constructor_WithoutReplicas_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSource(List.of()));
+    }
+}
@@ -2,6 +2,7 @@ package com.recipe.recipe_service.controller;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -9,29 +10,45 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.CursorPageDTO;
+import com.recipe.recipe_service.dto.RateRecipeRequestDTO;
 import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.dto.RecipeSummaryDTO;
 import com.recipe.recipe_service.dto.UpdateRecipeRequestDTO;
+import com.recipe.recipe_service.entity.Recipe;
 import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.service.RecipeRatingService;
 import com.recipe.recipe_service.service.RecipeService;
+import com.recipe.recipe_service.service.RecipeSuggestionStreams;
+import com.recipe.recipe_service.service.TrendingRecipes;
+import com.recipe.recipe_service.util.ETags;
 
 import tools.jackson.databind.ObjectMapper;
 
@@ -43,6 +60,15 @@ class RecipeControllerTest {
     @Mock
     private RecipeService recipeService;
 
+    @Mock
+    private RecipeRatingService recipeRatingService;
+
+    @Mock
+    private RecipeSuggestionStreams recipeSuggestionStreams;
+
+    @Mock
+    private TrendingRecipes trendingRecipes;
+
     @InjectMocks
     private RecipeController recipeController;
 
@@ -56,6 +82,10 @@ class RecipeControllerTest {
     private final String USER_ID = "user123";
     private final String USER_HEADER = "User-Id";
 
+    private RecipeSummaryDTO createRecipeSummary(Long id, String title, String userId, Visibility visibility) {
+        return new RecipeSummaryDTO(id, title, "Test description", null, 30, 4, "EASY", userId, visibility, 0.0, 0, 3, 0L);
+    }
+
     private RecipeResponseDTO createRecipeResponse(Long id, String title, String userId, Visibility visibility) {
         RecipeResponseDTO response = new RecipeResponseDTO();
         response.setId(id);
@@ -99,7 +129,7 @@ class RecipeControllerTest {
         RecipeResponseDTO response2 = createRecipeResponse(2L, "Salad", USER_ID, Visibility.PUBLIC);
         List<RecipeResponseDTO> responses = Arrays.asList(response1, response2);
 
-        when(recipeService.getRecipeSuggestions(USER_ID)).thenReturn(responses);
+        when(recipeService.getRecipeSuggestions(USER_ID, 20)).thenReturn(responses);
 
         mockMvc.perform(get("/api/recipes/suggestions")
                 .header(USER_HEADER, USER_ID))
@@ -119,7 +149,7 @@ class RecipeControllerTest {
 
     @Test
     void getRecipeSuggestions_EmptyList_ReturnsEmptyArray() throws Exception {
-        when(recipeService.getRecipeSuggestions(USER_ID)).thenReturn(List.of());
+        when(recipeService.getRecipeSuggestions(USER_ID, 20)).thenReturn(List.of());
 
         mockMvc.perform(get("/api/recipes/suggestions")
                 .header(USER_HEADER, USER_ID))
@@ -127,12 +157,32 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void streamRecipeSuggestions_OpensEventStream() throws Exception {
+        when(recipeSuggestionStreams.subscribe(USER_ID)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/recipes/suggestions/stream")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(request().asyncStarted());
+
+        verify(recipeSuggestionStreams).subscribe(USER_ID);
+    }
+
+    @Test
+    void streamRecipeSuggestions_TooManyStreams_ReturnsServiceUnavailable() throws Exception {
+        when(recipeSuggestionStreams.subscribe(USER_ID)).thenThrow(new IllegalStateException("Too many open suggestion streams"));
+
+        mockMvc.perform(get("/api/recipes/suggestions/stream")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     void getUseItUpRecipes_Success() throws Exception {
         RecipeResponseDTO response = createRecipeResponse(1L, "Use It Up Recipe", USER_ID, Visibility.PUBLIC);
         List<RecipeResponseDTO> responses = List.of(response);
 
-        when(recipeService.getUseItUpRecipes(USER_ID)).thenReturn(responses);
+        when(recipeService.getUseItUpRecipes(USER_ID, 20)).thenReturn(responses);
 
         mockMvc.perform(get("/api/recipes/use-it-up")
                 .header(USER_HEADER, USER_ID))
@@ -147,15 +197,25 @@ class RecipeControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void onPantryChanged_EvictsSnapshotAndReturnsNoContent() throws Exception {
+        mockMvc.perform(post("/api/recipes/pantry-changed")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isNoContent());
+
+        verify(recipeService).onPantryChanged(USER_ID);
+    }
+
     @Test
     void getAllRecipes_Success() throws Exception {
         RecipeResponseDTO response1 = createRecipeResponse(1L, "Public Recipe", "user1", Visibility.PUBLIC);
         RecipeResponseDTO response2 = createRecipeResponse(2L, "My Private Recipe", USER_ID, Visibility.PRIVATE);
         List<RecipeResponseDTO> responses = Arrays.asList(response1, response2);
 
-        when(recipeService.getAllRecipes(USER_ID)).thenReturn(responses);
+        when(recipeService.getAllRecipes(USER_ID, null, 50)).thenReturn(new CursorPageDTO<>(responses, null));
 
         mockMvc.perform(get("/api/recipes/all")
+                .param("view", "full")
                 .header(USER_HEADER, USER_ID))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
@@ -175,33 +235,144 @@ class RecipeControllerTest {
         RecipeResponseDTO response2 = createRecipeResponse(2L, "Public Recipe 2", "user2", Visibility.PUBLIC);
         List<RecipeResponseDTO> responses = Arrays.asList(response1, response2);
 
-        when(recipeService.getPublicRecipes()).thenReturn(responses);
+        when(recipeService.getPublicRecipes(null, 50)).thenReturn(new CursorPageDTO<>(responses, null));
 
-        mockMvc.perform(get("/api/recipes/public"))
+        mockMvc.perform(get("/api/recipes/public")
+                .param("view", "full"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].title", is("Public Recipe 1")))
                 .andExpect(jsonPath("$[1].title", is("Public Recipe 2")));
     }
 
+    @Test
+    void getPublicRecipes_DefaultView_ReturnsSummaries() throws Exception {
+        RecipeSummaryDTO summary = createRecipeSummary(1L, "Public Recipe 1", "user1", Visibility.PUBLIC);
+
+        when(recipeService.getPublicRecipeSummaries(null, 50)).thenReturn(new CursorPageDTO<>(List.of(summary), null));
+
+        mockMvc.perform(get("/api/recipes/public"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title", is("Public Recipe 1")))
+                .andExpect(jsonPath("$[0].ingredientCount", is(3)))
+                .andExpect(jsonPath("$[0].ingredients").doesNotExist());
+    }
+
+    @Test
+    void getAllRecipes_DefaultView_ReturnsSummaries() throws Exception {
+        RecipeSummaryDTO summary = createRecipeSummary(2L, "My Private Recipe", USER_ID, Visibility.PRIVATE);
+
+        when(recipeService.getAllRecipeSummaries(USER_ID, null, 50)).thenReturn(new CursorPageDTO<>(List.of(summary), null));
+
+        mockMvc.perform(get("/api/recipes/all")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].instructions").doesNotExist());
+    }
+
     @Test
     void getPublicRecipes_NoPublicRecipes_ReturnsEmptyArray() throws Exception {
-        when(recipeService.getPublicRecipes()).thenReturn(List.of());
+        when(recipeService.getPublicRecipeSummaries(null, 50)).thenReturn(new CursorPageDTO<>(List.of(), null));
 
         mockMvc.perform(get("/api/recipes/public"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void getPublicRecipes_WithNextPage_ReturnsCursorHeader() throws Exception {
+        RecipeSummaryDTO summary = createRecipeSummary(1L, "Public Recipe 1", "user1", Visibility.PUBLIC);
+
+        when(recipeService.getPublicRecipeSummaries("abc", 1)).thenReturn(new CursorPageDTO<>(List.of(summary), "next"));
+
+        mockMvc.perform(get("/api/recipes/public")
+                .param("cursor", "abc")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getPublicRecipes_InvalidCursor_ReturnsBadRequest() throws Exception {
+        when(recipeService.getPublicRecipeSummaries("bad", 50)).thenThrow(new IllegalArgumentException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/api/recipes/public")
+                .param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchRecipes_ReturnsRankedPageWithCursor() throws Exception {
+        RecipeResponseDTO response = createRecipeResponse(3L, "Tomato Soup", "user1", Visibility.PUBLIC);
+
+        when(recipeService.searchRecipes("tomato", USER_ID, null, 20)).thenReturn(new CursorPageDTO<>(List.of(response), "next"));
+
+        mockMvc.perform(get("/api/recipes/search")
+                .param("q", "tomato")
+                .param("view", "full")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
+                .andExpect(jsonPath("$[0].title", is("Tomato Soup")));
+    }
+
+    @Test
+    void searchRecipes_BlankQuery_ReturnsBadRequest() throws Exception {
+        when(recipeService.searchRecipeSummaries(" ", USER_ID, null, 20)).thenThrow(new IllegalArgumentException("Search query is required"));
+
+        mockMvc.perform(get("/api/recipes/search")
+                .param("q", " ")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rateRecipe_Accepted() throws Exception {
+        mockMvc.perform(post("/api/recipes/1/rating")
+                .header(USER_HEADER, USER_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RateRecipeRequestDTO(5))))
+                .andExpect(status().isAccepted());
+
+        verify(recipeRatingService).rateRecipe(1L, 5, USER_ID);
+    }
+
+    @Test
+    void rateRecipe_InvalidStars_ReturnsBadRequest() throws Exception {
+        doThrow(new IllegalArgumentException("Stars must be between 1 and 5"))
+                .when(recipeRatingService).rateRecipe(1L, 9, USER_ID);
+
+        mockMvc.perform(post("/api/recipes/1/rating")
+                .header(USER_HEADER, USER_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RateRecipeRequestDTO(9))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rateRecipe_UnknownRecipe_ReturnsNotFound() throws Exception {
+        doThrow(new RuntimeException("Recipe not found"))
+                .when(recipeRatingService).rateRecipe(99L, 4, USER_ID);
+
+        mockMvc.perform(post("/api/recipes/99/rating")
+                .header(USER_HEADER, USER_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RateRecipeRequestDTO(4))))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getMyRecipes_Success() throws Exception {
         RecipeResponseDTO response1 = createRecipeResponse(1L, "My Recipe 1", USER_ID, Visibility.PRIVATE);
         RecipeResponseDTO response2 = createRecipeResponse(2L, "My Recipe 2", USER_ID, Visibility.PUBLIC);
         List<RecipeResponseDTO> responses = Arrays.asList(response1, response2);
 
-        when(recipeService.getMyRecipes(USER_ID)).thenReturn(responses);
+        when(recipeService.getMyRecipes(USER_ID, null, 50)).thenReturn(new CursorPageDTO<>(responses, null));
 
         mockMvc.perform(get("/api/recipes/my-recipes")
+                .param("view", "full")
                 .header(USER_HEADER, USER_ID))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
@@ -217,7 +388,7 @@ class RecipeControllerTest {
 
     @Test
     void getMyRecipes_NoRecipes_ReturnsEmptyArray() throws Exception {
-        when(recipeService.getMyRecipes(USER_ID)).thenReturn(List.of());
+        when(recipeService.getMyRecipeSummaries(USER_ID, null, 50)).thenReturn(new CursorPageDTO<>(List.of(), null));
 
         mockMvc.perform(get("/api/recipes/my-recipes")
                 .header(USER_HEADER, USER_ID))
@@ -225,6 +396,106 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void getRecipeById_ReturnsETag() throws Exception {
+        RecipeResponseDTO response = createRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+        response.setVersion(4L);
+
+        when(recipeService.getRecipeById(1L)).thenReturn(response);
+
+        mockMvc.perform(get("/api/recipes/getRecipeById/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""));
+    }
+
+    @Test
+    void getRecipeById_IfNoneMatchMatches_ReturnsNotModifiedWithoutLoading() throws Exception {
+        when(recipeService.getRecipeETag(1L)).thenReturn(Optional.of("\"1-4\""));
+
+        mockMvc.perform(get("/api/recipes/getRecipeById/1")
+                .header("If-None-Match", "\"1-4\""))
+                .andExpect(status().isNotModified());
+
+        verify(recipeService, never()).getRecipeById(any());
+        verify(recipeService).recordView(1L);
+    }
+
+    @Test
+    void getRecipeById_IfNoneMatchStale_ReturnsRecipe() throws Exception {
+        RecipeResponseDTO response = createRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+        response.setVersion(5L);
+
+        when(recipeService.getRecipeETag(1L)).thenReturn(Optional.of("\"1-5\""));
+        when(recipeService.getRecipeById(1L)).thenReturn(response);
+
+        mockMvc.perform(get("/api/recipes/getRecipeById/1")
+                .header("If-None-Match", "\"1-4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-5\""));
+    }
+
+    @Test
+    void getMyRecipes_IfNoneMatchMatches_ReturnsNotModifiedWithoutLoading() throws Exception {
+        when(recipeService.getMyRecipesETag(USER_ID, null, 50, "summary")).thenReturn("\"abc\"");
+
+        mockMvc.perform(get("/api/recipes/my-recipes")
+                .header(USER_HEADER, USER_ID)
+                .header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified());
+
+        verify(recipeService, never()).getMyRecipeSummaries(any(), any(), anyInt());
+    }
+
+    @Test
+    void getPublicRecipes_IfNoneMatchMatchesPage_ReturnsNotModified() throws Exception {
+        RecipeSummaryDTO summary = createRecipeSummary(1L, "Public Recipe 1", "user1", Visibility.PUBLIC);
+        CursorPageDTO<RecipeSummaryDTO> page = new CursorPageDTO<>(List.of(summary), null);
+
+        when(recipeService.getPublicRecipeSummaries(null, 50)).thenReturn(page);
+
+        mockMvc.perform(get("/api/recipes/public")
+                .header("If-None-Match", ETags.forPage("summary", page.getItems(), false)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getRecipesByIds_ReturnsRecipesInOrder() throws Exception {
+        RecipeResponseDTO first = createRecipeResponse(3L, "Soup", USER_ID, Visibility.PRIVATE);
+        RecipeResponseDTO second = createRecipeResponse(1L, "Salad", "user1", Visibility.PUBLIC);
+
+        when(recipeService.getRecipesByIds(List.of(3L, 1L), USER_ID)).thenReturn(List.of(first, second));
+
+        mockMvc.perform(get("/api/recipes/batch")
+                .param("ids", "3,1")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(3)))
+                .andExpect(jsonPath("$[1].id", is(1)));
+    }
+
+    @Test
+    void getRecipesByIds_TooManyIds_ReturnsBadRequest() throws Exception {
+        when(recipeService.getRecipesByIds(any(), any())).thenThrow(new IllegalArgumentException("A batch is limited to 100 recipes"));
+
+        mockMvc.perform(get("/api/recipes/batch")
+                .param("ids", "1,2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTrendingRecipes_ReturnsCurrentRanking() throws Exception {
+        RecipeResponseDTO recipe = createRecipeResponse(7L, "Ramen", "user1", Visibility.PUBLIC);
+        when(trendingRecipes.getTrending(5)).thenReturn(List.of(recipe));
+
+        mockMvc.perform(get("/api/recipes/trending")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(7)));
+    }
+
     @Test
     void getRecipeById_NotFound() throws Exception {
         when(recipeService.getRecipeById(1L)).thenReturn(null);
@@ -287,6 +558,42 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$.visibility", is("PRIVATE")));
     }
 
+    @Test
+    void updateRecipe_ConcurrentRatingFlush_RetriesUpdate() throws Exception {
+        UpdateRecipeRequestDTO request = createUpdateRecipeRequest();
+        RecipeResponseDTO response = createRecipeResponse(1L, "Updated Recipe", USER_ID, Visibility.PRIVATE);
+
+        when(recipeService.updateRecipe(eq(1L), any(UpdateRecipeRequestDTO.class), eq(USER_ID)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Recipe.class, 1L))
+                .thenReturn(response);
+
+        mockMvc.perform(put("/api/recipes/updateRecipe/1")
+                .header(USER_HEADER, USER_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Updated Recipe")));
+
+        verify(recipeService, times(2)).updateRecipe(eq(1L), any(UpdateRecipeRequestDTO.class), eq(USER_ID));
+    }
+
+    @Test
+    void updateRecipe_PersistentVersionConflict_ReturnsConflict() throws Exception {
+        UpdateRecipeRequestDTO request = createUpdateRecipeRequest();
+
+        when(recipeService.updateRecipe(eq(1L), any(UpdateRecipeRequestDTO.class), eq(USER_ID)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Recipe.class, 1L));
+
+        mockMvc.perform(put("/api/recipes/updateRecipe/1")
+                .header(USER_HEADER, USER_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        verify(recipeService, times(RecipeController.MAX_UPDATE_ATTEMPTS))
+                .updateRecipe(eq(1L), any(UpdateRecipeRequestDTO.class), eq(USER_ID));
+    }
+
     @Test
     void updateRecipe_NotFound() throws Exception {
         UpdateRecipeRequestDTO request = createUpdateRecipeRequest();
@@ -336,6 +643,31 @@ class RecipeControllerTest {
         verify(recipeService).deleteRecipe(1L, USER_ID);
     }
 
+    @Test
+    void deleteRecipe_ConcurrentRatingFlush_RetriesDelete() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(Recipe.class, 1L))
+                .doNothing()
+                .when(recipeService).deleteRecipe(1L, USER_ID);
+
+        mockMvc.perform(delete("/api/recipes/deleteRecipe/1")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isNoContent());
+
+        verify(recipeService, times(2)).deleteRecipe(1L, USER_ID);
+    }
+
+    @Test
+    void deleteRecipe_PersistentVersionConflict_ReturnsConflict() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(Recipe.class, 1L))
+                .when(recipeService).deleteRecipe(1L, USER_ID);
+
+        mockMvc.perform(delete("/api/recipes/deleteRecipe/1")
+                .header(USER_HEADER, USER_ID))
+                .andExpect(status().isConflict());
+
+        verify(recipeService, times(RecipeController.MAX_UPDATE_ATTEMPTS)).deleteRecipe(1L, USER_ID);
+    }
+
     @Test
     void deleteRecipe_NotFound() throws Exception {
         doThrow(new RuntimeException("Recipe not found")).when(recipeService).deleteRecipe(1L, USER_ID);
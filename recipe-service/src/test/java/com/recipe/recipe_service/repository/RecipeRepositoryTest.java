@@ -0,0 +1,145 @@
+package com.recipe.recipe_service.repository;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.recipe.recipe_service.dto.RecipeSummaryDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+class RecipeRepositoryTest {
+
+    private static final int RECIPE_COUNT = 50;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            Recipe recipe = new Recipe("user123", "Recipe " + i, "Description", 10, 2, "EASY", Visibility.PUBLIC);
+            recipe.addIngredient("tomato", 1.0, "piece");
+            recipe.addIngredient("garlic", 2.0, "cloves");
+            recipe.addInstruction("Chop");
+            recipe.addInstruction("Cook");
+            entityManager.persist(recipe);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findPublicRecipesAfter_LoadsPageWithCollectionsInConstantQueries() {
+        List<Recipe> recipes = recipeRepository.findPublicRecipesAfter(0L, PageRequest.of(0, RECIPE_COUNT));
+
+        int ingredients = 0;
+        int instructions = 0;
+        for (Recipe recipe : recipes) {
+            ingredients += recipe.getIngredients().size();
+            instructions += recipe.getInstructions().size();
+        }
+
+        assertEquals(RECIPE_COUNT, recipes.size());
+        assertEquals(RECIPE_COUNT * 2, ingredients);
+        assertEquals(RECIPE_COUNT * 2, instructions);
+        // One query for the page plus one batched query per element collection.
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Expected at most 3 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPublicRecipeSummariesAfter_SelectsScalarsInOneStatement() {
+        List<RecipeSummaryDTO> summaries = recipeRepository.findPublicRecipeSummariesBefore(Long.MAX_VALUE, PageRequest.of(0, RECIPE_COUNT));
+
+        assertEquals(RECIPE_COUNT, summaries.size());
+        assertEquals(2, summaries.get(0).getIngredientCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void findAllById_LoadsCollectionsInConstantQueries() {
+        List<Long> ids = recipeRepository.findPublicRecipesAfter(0L, PageRequest.of(0, 10)).stream()
+                .map(Recipe::getId)
+                .toList();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Recipe> recipes = recipeRepository.findAllById(ids);
+        recipes.forEach(recipe -> {
+            recipe.getIngredients().size();
+            recipe.getInstructions().size();
+        });
+
+        assertEquals(10, recipes.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Expected at most 3 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateInstructions_EditingOneStepUpdatesOneRow() {
+        Recipe recipe = recipeRepository.findPublicRecipesAfter(0L, PageRequest.of(0, 1)).get(0);
+        recipe.getIngredients().size();
+        recipe.getInstructions().size();
+        statistics.clear();
+
+        recipe.updateInstructions(List.of("Chop finely", "Cook"));
+        entityManager.flush();
+
+        // The changed step plus the version bump on the recipe; no delete-and-reinsert of the collection.
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        entityManager.clear();
+        assertEquals(List.of("Chop finely", "Cook"), recipeRepository.findById(recipe.getId()).orElseThrow().getInstructions());
+    }
+
+    @Test
+    void findPublicRecipeSummariesBefore_PagesNewestFirst() {
+        List<RecipeSummaryDTO> first = recipeRepository.findPublicRecipeSummariesBefore(Long.MAX_VALUE, PageRequest.of(0, 3));
+        List<RecipeSummaryDTO> second = recipeRepository.findPublicRecipeSummariesBefore(
+                first.get(first.size() - 1).getId(), PageRequest.of(0, 3));
+
+        assertEquals("Recipe " + (RECIPE_COUNT - 1), first.get(0).getTitle());
+        assertTrue(first.get(0).getId() > first.get(1).getId());
+        assertTrue(first.get(2).getId() > second.get(0).getId());
+    }
+
+    @Test
+    void findByIngredientNamesAndUser_MatchesOnNormalizedName() {
+        Recipe recipe = new Recipe("user456", "Salsa", "Fresh", 5, 2, "EASY", Visibility.PRIVATE);
+        recipe.addIngredient("  Jalapeños Peppers ", 2.0, "pieces");
+        entityManager.persist(recipe);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Recipe> owner = recipeRepository.findByIngredientNamesAndUser(List.of("jalapeños pepper"), "user456");
+        List<Recipe> stranger = recipeRepository.findByIngredientNamesAndUser(List.of("jalapeños pepper"), "user123");
+
+        assertEquals(1, owner.size());
+        assertEquals("Salsa", owner.get(0).getTitle());
+        assertTrue(stranger.isEmpty());
+    }
+}
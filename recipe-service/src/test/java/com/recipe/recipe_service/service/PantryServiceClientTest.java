@@ -4,16 +4,21 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,16 +28,16 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 
 import com.recipe.recipe_service.dto.PantryItem;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class PantryServiceClientTest {
 
     @Mock
-    private WebClient.Builder webClientBuilder;
-
-    @Mock
-    private WebClient webClient;
+    private WebClient pantryServiceWebClient;
 
     @Mock
     private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
@@ -43,6 +48,9 @@ class PantryServiceClientTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Spy
+    private PantrySnapshotCache pantrySnapshotCache = new PantrySnapshotCache(60, 100, new SimpleMeterRegistry());
+
     @InjectMocks
     private PantryServiceClient pantryServiceClient;
 
@@ -57,9 +65,10 @@ class PantryServiceClientTest {
         testPantryItem.setQuantity(2.0);
         testPantryItem.setUnit("pieces");
         testPantryItem.setUserId(USER_ID);
+    }
 
-        when(webClientBuilder.build()).thenReturn(webClient);
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+    private void stubPantryRequest() {
+        when(pantryServiceWebClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
         
         when(requestHeadersSpec.header(anyString(), any())).thenReturn(requestHeadersSpec);
@@ -69,6 +78,7 @@ class PantryServiceClientTest {
     @Test
     void getUserPantry_Success_ReturnsPantryItems() {
         List<PantryItem> expectedItems = List.of(testPantryItem);
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.just(expectedItems));
 
@@ -78,14 +88,16 @@ class PantryServiceClientTest {
         assertEquals(1, result.size());
         assertEquals("tomato", result.get(0).getName());
         
-        verify(webClient).get();
-        verify(requestHeadersUriSpec).uri("http://pantry-service/api/pantry/items");
+        verify(pantryServiceWebClient).get();
+        verify(requestHeadersUriSpec).uri("/api/pantry/items");
         verify(requestHeadersSpec).header("User-Id", USER_ID);
         verify(requestHeadersSpec).retrieve();
+        verify(pantrySnapshotCache).putPantry(USER_ID, expectedItems, 0L);
     }
 
     @Test
     void getUserPantry_ServiceUnavailable_ReturnsEmptyList() {
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.error(new RuntimeException("Service unavailable")));
 
@@ -94,12 +106,14 @@ class PantryServiceClientTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         
-        verify(webClient).get();
-        verify(requestHeadersUriSpec).uri("http://pantry-service/api/pantry/items");
+        verify(pantryServiceWebClient).get();
+        verify(requestHeadersUriSpec).uri("/api/pantry/items");
+        verify(pantrySnapshotCache, never()).putPantry(anyString(), any(), anyLong());
     }
 
     @Test
     void getUserPantry_WebClientError_ReturnsEmptyList() {
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null)));
 
@@ -111,6 +125,7 @@ class PantryServiceClientTest {
 
     @Test
     void getUserPantry_NullResponse_ReturnsEmptyList() {
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.just(List.of()));
 
@@ -123,6 +138,7 @@ class PantryServiceClientTest {
     @Test
     void getExpiringItems_Success_ReturnsExpiringItems() {
         List<PantryItem> expectedItems = List.of(testPantryItem);
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.just(expectedItems));
 
@@ -132,14 +148,15 @@ class PantryServiceClientTest {
         assertEquals(1, result.size());
         assertEquals("tomato", result.get(0).getName());
         
-        verify(webClient).get();
-        verify(requestHeadersUriSpec).uri("http://pantry-service/api/pantry/items/expiring");
+        verify(pantryServiceWebClient).get();
+        verify(requestHeadersUriSpec).uri("/api/pantry/items/expiring");
         verify(requestHeadersSpec).header("User-Id", USER_ID);
         verify(requestHeadersSpec).retrieve();
     }
 
     @Test
     void getExpiringItems_ServiceError_ReturnsEmptyList() {
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.error(new RuntimeException("Network error")));
 
@@ -151,6 +168,7 @@ class PantryServiceClientTest {
 
     @Test
     void getExpiringItems_EmptyResponse_ReturnsEmptyList() {
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.just(List.of()));
 
@@ -162,6 +180,7 @@ class PantryServiceClientTest {
 
     @Test
     void getExpiringItems_NullUserId_HandlesGracefully() {
+        stubPantryRequest();
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
                 .thenReturn(Mono.just(List.of()));
 
@@ -172,4 +191,64 @@ class PantryServiceClientTest {
 
         verify(requestHeadersSpec).header(eq("User-Id"), isNull());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserPantryAsync_ServiceError_EmitsEmptyList() {
+        stubPantryRequest();
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.error(new RuntimeException("Connection refused")));
+
+        StepVerifier.create(pantryServiceClient.getUserPantryAsync(USER_ID))
+                .expectNext(List.of())
+                .verifyComplete();
+    }
+
+    @Test
+    void getExpiringItemsAsync_EmptyBody_EmitsEmptyList() {
+        stubPantryRequest();
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(pantryServiceClient.getExpiringItemsAsync(USER_ID))
+                .expectNext(List.of())
+                .verifyComplete();
+    }
+
+    @Test
+    void getUserPantry_CachedSnapshot_SkipsPantryService() {
+        pantrySnapshotCache.putPantry(USER_ID, List.of(testPantryItem), 0L);
+
+        List<PantryItem> result = pantryServiceClient.getUserPantry(USER_ID);
+
+        assertEquals(List.of(testPantryItem), result);
+        verify(pantryServiceWebClient, never()).get();
+    }
+
+    @Test
+    void getExpiringItems_SecondCall_ServedFromCache() {
+        stubPantryRequest();
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.just(List.of(testPantryItem)));
+
+        pantryServiceClient.getExpiringItems(USER_ID);
+        List<PantryItem> result = pantryServiceClient.getExpiringItems(USER_ID);
+
+        assertEquals(List.of(testPantryItem), result);
+        verify(pantryServiceWebClient, times(1)).get();
+    }
+
+    @Test
+    void getUserPantry_InvalidatedDuringFetch_DoesNotCacheStaleResponse() {
+        stubPantryRequest();
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.fromSupplier(() -> {
+                    pantryServiceClient.evictPantry(USER_ID);
+                    return List.of(testPantryItem);
+                }));
+
+        List<PantryItem> result = pantryServiceClient.getUserPantry(USER_ID);
+
+        assertEquals(List.of(testPantryItem), result);
+        assertNull(pantrySnapshotCache.getPantry(USER_ID));
+    }
+}
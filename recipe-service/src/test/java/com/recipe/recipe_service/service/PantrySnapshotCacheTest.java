@@ -0,0 +1,74 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.recipe.recipe_service.dto.PantryItem;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PantrySnapshotCacheTest {
+
+    private final String USER_ID = "user123";
+
+    private SimpleMeterRegistry meterRegistry;
+    private PantrySnapshotCache cache;
+    private PantryItem tomato;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PantrySnapshotCache(60, 100, meterRegistry);
+        tomato = new PantryItem();
+        tomato.setName("tomato");
+    }
+
+    @Test
+    void getPantry_AfterPut_ReturnsSnapshot() {
+        cache.putPantry(USER_ID, List.of(tomato), cache.generation(USER_ID));
+
+        assertEquals(List.of(tomato), cache.getPantry(USER_ID));
+        assertNull(cache.getExpiring(USER_ID));
+    }
+
+    @Test
+    void invalidate_DropsPantryAndExpiringSnapshots() {
+        cache.putPantry(USER_ID, List.of(tomato), cache.generation(USER_ID));
+        cache.putExpiring(USER_ID, List.of(tomato), cache.generation(USER_ID));
+
+        cache.invalidate(USER_ID);
+
+        assertNull(cache.getPantry(USER_ID));
+        assertNull(cache.getExpiring(USER_ID));
+    }
+
+    @Test
+    void putPantry_AfterInvalidation_DropsStaleSnapshot() {
+        long generation = cache.generation(USER_ID);
+
+        cache.invalidate(USER_ID);
+        cache.putPantry(USER_ID, List.of(tomato), generation);
+        cache.putExpiring(USER_ID, List.of(tomato), generation);
+
+        assertNull(cache.getPantry(USER_ID));
+        assertNull(cache.getExpiring(USER_ID));
+        cache.putPantry(USER_ID, List.of(tomato), cache.generation(USER_ID));
+        assertEquals(List.of(tomato), cache.getPantry(USER_ID));
+    }
+
+    @Test
+    void getPantry_RecordsHitAndMissMetrics() {
+        cache.getPantry(USER_ID);
+        cache.putPantry(USER_ID, List.of(tomato), cache.generation(USER_ID));
+        cache.getPantry(USER_ID);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "pantry.items").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "pantry.items").tag("result", "miss")
+                .functionCounter().count());
+    }
+}
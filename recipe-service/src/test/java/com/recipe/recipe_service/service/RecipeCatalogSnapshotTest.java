@@ -0,0 +1,135 @@
+package com.recipe.recipe_service.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.recipe.recipe_service.dto.RecipeIngredientDTO;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeCatalogSnapshotTest {
+
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeReadCache recipeReadCache;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @InjectMocks
+    private RecipeCatalogSnapshot recipeCatalogSnapshot;
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("catalog.snapshot");
+        ReflectionTestUtils.setField(recipeCatalogSnapshot, "path", file.toString());
+    }
+
+    private RecipeResponseDTO createRecipe(Long id) {
+        RecipeResponseDTO recipe = new RecipeResponseDTO(id, "Recipe " + id, "Description", null, 10, 2, "EASY",
+                "user123", Visibility.PUBLIC, List.of(new RecipeIngredientDTO("Tomato", 2.0, "piece")),
+                List.of("Chop", "Serve"), 4.5, 2);
+        recipe.setVersion(3L);
+        recipe.setUpdatedAt(Instant.parse("2026-01-01T10:00:00.123456Z"));
+        return recipe;
+    }
+
+    @Test
+    void writeAndRead_RoundTripsIndexAndRecipes() throws Exception {
+        Instant writtenAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        IndexedRecipe indexed = new IndexedRecipe(1L, null, Visibility.PRIVATE, Set.of("tomato", "basil"));
+
+        RecipeCatalogSnapshot.write(file, new RecipeCatalogSnapshot.Contents(
+                writtenAt, List.of(indexed), List.of(createRecipe(1L))));
+        RecipeCatalogSnapshot.Contents contents = RecipeCatalogSnapshot.read(file);
+
+        assertEquals(writtenAt, contents.writtenAt());
+        assertEquals(List.of(indexed), contents.index());
+        RecipeResponseDTO recipe = contents.recipes().get(0);
+        assertEquals("Recipe 1", recipe.getTitle());
+        assertNull(recipe.getImageUrl());
+        assertEquals("Tomato", recipe.getIngredients().get(0).getName());
+        assertEquals(2.0, recipe.getIngredients().get(0).getQuantity());
+        assertEquals(List.of("Chop", "Serve"), recipe.getInstructions());
+        assertEquals(3L, recipe.getVersion());
+        assertEquals(Instant.parse("2026-01-01T10:00:00.123456Z"), recipe.getUpdatedAt());
+    }
+
+    @Test
+    void restore_LoadsIndexAndOnlyUnchangedRecipesIntoCache() throws Exception {
+        Instant writtenAt = Instant.now().minus(Duration.ofMinutes(5)).truncatedTo(ChronoUnit.MILLIS);
+        List<IndexedRecipe> index = List.of(new IndexedRecipe(1L, "user123", Visibility.PUBLIC, Set.of("tomato")));
+        RecipeCatalogSnapshot.write(file, new RecipeCatalogSnapshot.Contents(
+                writtenAt, index, List.of(createRecipe(1L), createRecipe(2L))));
+        when(recipeIngredientIndex.applyChangesSince(any(Instant.class))).thenReturn(Set.of(2L));
+        when(recipeRepository.findIdsUnchangedSince(anyList(), any(Instant.class))).thenReturn(List.of(1L));
+
+        recipeCatalogSnapshot.restore();
+
+        verify(recipeIngredientIndex).restore(index);
+        verify(recipeIngredientIndex).applyChangesSince(writtenAt.minus(Duration.ofMinutes(1)));
+        verify(recipeReadCache).putRecipe(argThat(recipe -> recipe.getId() == 1L));
+        verify(recipeReadCache, never()).putRecipe(argThat(recipe -> recipe.getId() == 2L));
+    }
+
+    @Test
+    void restore_IgnoresStaleSnapshot() throws Exception {
+        RecipeCatalogSnapshot.write(file, new RecipeCatalogSnapshot.Contents(
+                Instant.now().minus(Duration.ofHours(2)), List.of(), List.of()));
+
+        recipeCatalogSnapshot.restore();
+
+        verify(recipeIngredientIndex, never()).restore(anyList());
+    }
+
+    @Test
+    void restore_IgnoresCorruptSnapshot() throws Exception {
+        Files.write(file, new byte[] {1, 2, 3});
+
+        recipeCatalogSnapshot.restore();
+
+        verify(recipeIngredientIndex, never()).restore(anyList());
+    }
+
+    @Test
+    void write_SkipsUntilIndexIsReady() {
+        when(recipeIngredientIndex.isReady()).thenReturn(false);
+
+        recipeCatalogSnapshot.write();
+
+        assertTrue(Files.notExists(file));
+    }
+}
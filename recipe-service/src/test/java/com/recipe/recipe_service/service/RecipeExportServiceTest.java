@@ -0,0 +1,96 @@
+package com.recipe.recipe_service.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeExportServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeMapper recipeMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RecipeExportService recipeExportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recipeExportService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(recipeExportService, "chunkSize", 2);
+    }
+
+    private Recipe recipe(Long id) {
+        Recipe recipe = new Recipe();
+        recipe.setId(id);
+        return recipe;
+    }
+
+    private RecipeResponseDTO dto(Long id) {
+        RecipeResponseDTO dto = new RecipeResponseDTO();
+        dto.setId(id);
+        dto.setTitle("Recipe " + id);
+        return dto;
+    }
+
+    @Test
+    void exportPublicRecipes_WritesOneLinePerRecipeAcrossChunks() throws Exception {
+        Recipe first = recipe(1L);
+        Recipe second = recipe(2L);
+        Recipe third = recipe(5L);
+        when(recipeRepository.findPublicRecipesAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+        when(recipeRepository.findPublicRecipesAfter(2L, PageRequest.of(0, 2))).thenReturn(List.of(third));
+        when(recipeMapper.toResponseDTO(first)).thenReturn(dto(1L));
+        when(recipeMapper.toResponseDTO(second)).thenReturn(dto(2L));
+        when(recipeMapper.toResponseDTO(third)).thenReturn(dto(5L));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recipeExportService.exportPublicRecipes(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"id\":1"));
+        assertTrue(lines[2].contains("\"title\":\"Recipe 5\""));
+        verify(recipeRepository, never()).findPublicRecipesAfter(eq(5L), any());
+    }
+
+    @Test
+    void exportPublicRecipes_EmptyCatalog_WritesNothing() throws Exception {
+        when(recipeRepository.findPublicRecipesAfter(anyLong(), any())).thenReturn(List.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recipeExportService.exportPublicRecipes(out);
+
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,162 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.recipe.recipe_service.dto.BulkImportResponseDTO;
+import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.repository.RecipeOutboxRepository;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeImportServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeMapper recipeMapper;
+
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeReadCache recipeReadCache;
+
+    @Mock
+    private RecipeOutboxRepository recipeOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private RecipeImportService recipeImportService;
+
+    private final String USER_ID = "partner";
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recipeImportService, "maxItems", 10);
+        ReflectionTestUtils.setField(recipeImportService, "chunkSize", 2);
+    }
+
+    private CreateRecipeRequestDTO request(String title) {
+        CreateRecipeRequestDTO request = new CreateRecipeRequestDTO();
+        request.setTitle(title);
+        return request;
+    }
+
+    private void stubMapper() {
+        when(recipeMapper.toEntity(any(CreateRecipeRequestDTO.class))).thenAnswer(invocation -> {
+            CreateRecipeRequestDTO request = invocation.getArgument(0);
+            Recipe recipe = new Recipe();
+            recipe.setTitle(request.getTitle());
+            recipe.setVisibility(null);
+            return recipe;
+        });
+    }
+
+    private void stubSaveAll(String rejectedTitle) {
+        when(recipeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Recipe> recipes = invocation.getArgument(0);
+            if (recipes.stream().anyMatch(recipe -> recipe.getTitle().equals(rejectedTitle))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            recipes.forEach(recipe -> recipe.setId(ids.incrementAndGet()));
+            return new ArrayList<>(recipes);
+        });
+    }
+
+    @Test
+    void importRecipes_SavesValidItemsInChunks() {
+        stubMapper();
+        stubSaveAll(null);
+        List<CreateRecipeRequestDTO> requests = List.of(request("A"), request(" "), request("B"), request("C"));
+
+        BulkImportResponseDTO response = recipeImportService.importRecipes(requests, USER_ID);
+
+        assertEquals(4, response.getTotal());
+        assertEquals(3, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertEquals("Title is required", response.getResults().get(1).getError());
+        assertEquals(1L, response.getResults().get(0).getRecipeId());
+        assertEquals(3L, response.getResults().get(3).getRecipeId());
+        verify(recipeRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(recipeOutboxRepository, times(2)).saveAll(anyList());
+        verify(recipeIngredientIndex, times(3)).index(any(Recipe.class));
+        verify(recipeReadCache).evictPublicPages();
+    }
+
+    @Test
+    void importRecipes_FailedChunk_RetriesItemsIndividually() {
+        stubMapper();
+        stubSaveAll("Bad");
+        List<CreateRecipeRequestDTO> requests = List.of(request("Good"), request("Bad"));
+
+        BulkImportResponseDTO response = recipeImportService.importRecipes(requests, USER_ID);
+
+        assertEquals(1, response.getImported());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertNull(response.getResults().get(1).getRecipeId());
+        assertEquals("value too long", response.getResults().get(1).getError());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(recipeIngredientIndex, times(1)).index(any(Recipe.class));
+    }
+
+    @Test
+    void importRecipes_AppliesDefaultsToImportedRecipes() {
+        stubMapper();
+        stubSaveAll(null);
+
+        recipeImportService.importRecipes(List.of(request("A")), USER_ID);
+
+        verify(recipeIngredientIndex).index(argThat(recipe ->
+                USER_ID.equals(recipe.getUserId())
+                        && recipe.getVisibility() == Visibility.PUBLIC
+                        && recipe.getIngredients().isEmpty()));
+    }
+
+    @Test
+    void importRecipes_TooManyItems_Throws() {
+        List<CreateRecipeRequestDTO> requests = Collections.nCopies(11, request("A"));
+
+        assertThrows(IllegalArgumentException.class, () -> recipeImportService.importRecipes(requests, USER_ID));
+        verify(recipeRepository, never()).saveAll(anyList());
+    }
+}
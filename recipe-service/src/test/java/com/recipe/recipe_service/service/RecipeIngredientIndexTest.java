@@ -0,0 +1,181 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIngredientIndexTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @InjectMocks
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    private final String USER_ID = "user123";
+    private final String OTHER_USER_ID = "otherUser";
+
+    private Recipe createRecipe(Long id, String userId, Visibility visibility, String... ingredients) {
+        Recipe recipe = new Recipe(userId, "Recipe " + id, "Description", 10, 2, "EASY", visibility);
+        recipe.setId(id);
+        for (String ingredient : ingredients) {
+            recipe.addIngredient(ingredient, 1.0, "piece");
+        }
+        return recipe;
+    }
+
+    private Set<Long> visibleIds(List<String> ingredients, String userId) {
+        return recipeIngredientIndex.findVisibleRecipes(ingredients, userId).stream()
+                .map(RecipeIngredientIndex.IndexedRecipe::id)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void rebuild_LoadsRowsFromRepository() {
+        when(recipeRepository.findIngredientIndexRows()).thenReturn(List.of(
+                new Object[] {1L, USER_ID, Visibility.PUBLIC, "Tomato"},
+                new Object[] {1L, USER_ID, Visibility.PUBLIC, "garlic"},
+                new Object[] {2L, OTHER_USER_ID, Visibility.PUBLIC, null}));
+
+        assertFalse(recipeIngredientIndex.isReady());
+        recipeIngredientIndex.rebuild();
+
+        assertTrue(recipeIngredientIndex.isReady());
+        assertEquals(Set.of(1L), visibleIds(List.of("tomato"), USER_ID));
+    }
+
+    @Test
+    void rebuild_KeepsChangesMadeWhileReading() {
+        recipeIngredientIndex.index(createRecipe(1L, USER_ID, Visibility.PUBLIC, "tomato"));
+        when(recipeRepository.findIngredientIndexRows()).thenAnswer(invocation -> {
+            // Rows read before these commits landed.
+            List<Object[]> rows = List.<Object[]>of(new Object[] {1L, USER_ID, Visibility.PUBLIC, "tomato"});
+            recipeIngredientIndex.index(createRecipe(2L, USER_ID, Visibility.PUBLIC, "tomato"));
+            recipeIngredientIndex.remove(1L);
+            return rows;
+        });
+
+        recipeIngredientIndex.rebuild();
+
+        assertEquals(Set.of(2L), visibleIds(List.of("tomato"), USER_ID));
+        assertFalse(recipeIngredientIndex.isVisible(1L, USER_ID));
+    }
+
+    @Test
+    void rebuild_ReadFailure_KeepsCurrentIndexAndStopsTracking() {
+        recipeIngredientIndex.index(createRecipe(1L, USER_ID, Visibility.PUBLIC, "tomato"));
+        when(recipeRepository.findIngredientIndexRows()).thenThrow(new IllegalStateException("connection lost"));
+
+        assertThrows(IllegalStateException.class, () -> recipeIngredientIndex.rebuild());
+        recipeIngredientIndex.index(createRecipe(2L, USER_ID, Visibility.PUBLIC, "tomato"));
+
+        assertEquals(Set.of(1L, 2L), visibleIds(List.of("tomato"), USER_ID));
+    }
+
+    @Test
+    void findVisibleRecipeIds_HidesOtherUsersPrivateRecipes() {
+        recipeIngredientIndex.index(createRecipe(1L, USER_ID, Visibility.PRIVATE, "tomato"));
+        recipeIngredientIndex.index(createRecipe(2L, OTHER_USER_ID, Visibility.PRIVATE, "tomato"));
+        recipeIngredientIndex.index(createRecipe(3L, OTHER_USER_ID, Visibility.PUBLIC, "tomato", "basil"));
+
+        Set<Long> result = visibleIds(List.of("TOMATO", "basil"), USER_ID);
+
+        assertEquals(Set.of(1L, 3L), result);
+    }
+
+    @Test
+    void index_ReindexingReplacesPreviousIngredients() {
+        Recipe recipe = createRecipe(1L, USER_ID, Visibility.PUBLIC, "tomato");
+        recipeIngredientIndex.index(recipe);
+
+        recipe.getIngredients().clear();
+        recipe.addIngredient("cucumber", 1.0, "piece");
+        recipeIngredientIndex.index(recipe);
+
+        assertTrue(visibleIds(List.of("tomato"), USER_ID).isEmpty());
+        assertEquals(Set.of(1L), visibleIds(List.of("cucumber"), USER_ID));
+    }
+
+    @Test
+    void remove_DropsRecipeFromPostings() {
+        recipeIngredientIndex.index(createRecipe(1L, USER_ID, Visibility.PUBLIC, "tomato"));
+
+        recipeIngredientIndex.remove(1L);
+
+        assertTrue(visibleIds(List.of("tomato"), USER_ID).isEmpty());
+    }
+
+    @Test
+    void index_VisibilityChangeHidesRecipeFromOtherUsers() {
+        Recipe recipe = createRecipe(1L, USER_ID, Visibility.PUBLIC, "tomato");
+        recipeIngredientIndex.index(recipe);
+        assertEquals(Set.of(1L), visibleIds(List.of("tomato"), OTHER_USER_ID));
+
+        recipe.setVisibility(Visibility.PRIVATE);
+        recipeIngredientIndex.index(recipe);
+
+        assertTrue(visibleIds(List.of("tomato"), OTHER_USER_ID).isEmpty());
+        assertEquals(Set.of(1L), visibleIds(List.of("tomato"), USER_ID));
+        assertFalse(recipeIngredientIndex.isVisible(1L, OTHER_USER_ID));
+    }
+
+    @Test
+    void findVisibleRecipes_AnonymousUserSeesOnlyPublicRecipes() {
+        recipeIngredientIndex.index(createRecipe(1L, USER_ID, Visibility.PRIVATE, "tomato"));
+        recipeIngredientIndex.index(createRecipe(2L, USER_ID, Visibility.PUBLIC, "tomato"));
+
+        assertEquals(Set.of(2L), visibleIds(List.of("tomato"), null));
+    }
+
+    @Test
+    void applyChangesSince_ReindexesModifiedRecipes() {
+        recipeIngredientIndex.restore(List.of(
+                new RecipeIngredientIndex.IndexedRecipe(1L, USER_ID, Visibility.PUBLIC, Set.of("tomato"))));
+        Instant since = Instant.parse("2026-01-01T00:00:00Z");
+        when(recipeRepository.findIngredientIndexRowsUpdatedSince(since)).thenReturn(List.of(
+                new Object[] {1L, USER_ID, Visibility.PUBLIC, "Cucumber"},
+                new Object[] {2L, OTHER_USER_ID, Visibility.PUBLIC, "tomato"}));
+        when(recipeRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        Set<Long> changed = recipeIngredientIndex.applyChangesSince(since);
+
+        assertEquals(Set.of(1L, 2L), changed);
+        assertTrue(recipeIngredientIndex.isReady());
+        assertEquals(Set.of(2L), visibleIds(List.of("tomato"), USER_ID));
+        assertEquals(Set.of(1L), visibleIds(List.of("cucumber"), USER_ID));
+    }
+
+    @Test
+    void applyChangesSince_DropsRecipesDeletedSinceSnapshot() {
+        recipeIngredientIndex.restore(List.of(
+                new RecipeIngredientIndex.IndexedRecipe(1L, USER_ID, Visibility.PUBLIC, Set.of("tomato")),
+                new RecipeIngredientIndex.IndexedRecipe(2L, USER_ID, Visibility.PRIVATE, Set.of("tomato"))));
+        Instant since = Instant.parse("2026-01-01T00:00:00Z");
+        when(recipeRepository.findIngredientIndexRowsUpdatedSince(since)).thenReturn(List.of());
+        when(recipeRepository.findAllIds()).thenReturn(List.of(1L));
+
+        Set<Long> changed = recipeIngredientIndex.applyChangesSince(since);
+
+        assertTrue(changed.isEmpty());
+        assertEquals(Set.of(1L), visibleIds(List.of("tomato"), USER_ID));
+        assertFalse(recipeIngredientIndex.isVisible(2L, USER_ID));
+        assertEquals(1, recipeIngredientIndex.snapshot().size());
+    }
+}
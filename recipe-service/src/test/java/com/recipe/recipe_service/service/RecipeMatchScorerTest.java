@@ -0,0 +1,61 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.service.RecipeIngredientIndex.IndexedRecipe;
+import com.recipe.recipe_service.service.RecipeMatchScorer.RecipeMatch;
+
+class RecipeMatchScorerTest {
+
+    private final RecipeMatchScorer scorer = new RecipeMatchScorer();
+
+    private IndexedRecipe recipe(long id, String... ingredients) {
+        return new IndexedRecipe(id, "user123", Visibility.PUBLIC, Set.of(ingredients));
+    }
+
+    @Test
+    void score_CountsMatchedMissingAndExpiring() {
+        RecipeMatch match = scorer.score(recipe(1L, "tomato", "garlic", "pasta", "basil"),
+                Set.of("tomato", "garlic"), Set.of("garlic"));
+
+        assertEquals(2, match.matched());
+        assertEquals(2, match.missing());
+        assertEquals(1, match.expiringMatched());
+        assertEquals((2 + RecipeMatchScorer.EXPIRING_WEIGHT) / 4, match.score(), 1e-9);
+    }
+
+    @Test
+    void topMatches_KeepsOnlyBestKInRankOrder() {
+        List<IndexedRecipe> candidates = List.of(
+                recipe(1L, "tomato", "saffron", "lobster"),
+                recipe(2L, "tomato"),
+                recipe(3L, "tomato", "garlic", "saffron"),
+                recipe(4L, "saffron"));
+
+        List<RecipeMatch> result = scorer.topMatches(candidates, Set.of("tomato", "garlic"), Set.of(), 2);
+
+        assertEquals(List.of(2L, 3L), result.stream().map(RecipeMatch::recipeId).toList());
+    }
+
+    @Test
+    void topMatches_PrefersRecipesUsingExpiringItems() {
+        List<IndexedRecipe> candidates = List.of(
+                recipe(1L, "tomato", "rice"),
+                recipe(2L, "milk", "rice"));
+
+        List<RecipeMatch> result = scorer.topMatches(candidates, Set.of("tomato", "milk"), Set.of("milk"), 1);
+
+        assertEquals(2L, result.get(0).recipeId());
+    }
+
+    @Test
+    void topMatches_ZeroLimit_ReturnsEmpty() {
+        assertTrue(scorer.topMatches(List.of(recipe(1L, "tomato")), Set.of("tomato"), Set.of(), 0).isEmpty());
+    }
+}
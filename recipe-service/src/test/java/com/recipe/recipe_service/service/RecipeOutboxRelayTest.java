@@ -0,0 +1,151 @@
+package com.recipe.recipe_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.RecipeChangeType;
+import com.recipe.recipe_service.entity.RecipeOutboxEvent;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeOutboxRelayTest {
+
+    @Mock
+    private RecipeOutboxRepository recipeOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final RecordingRecipeChangePublisher consumer = new RecordingRecipeChangePublisher();
+    private final List<RecipeOutboxEvent> outbox = new ArrayList<>();
+    private final RecipeOutboxRelay relay = new RecipeOutboxRelay();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "recipeOutboxRepository", recipeOutboxRepository);
+        ReflectionTestUtils.setField(relay, "recipeChangePublisher", consumer);
+        ReflectionTestUtils.setField(relay, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 5);
+    }
+
+    private void addEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            Recipe recipe = new Recipe("user123", "Recipe", "Description", 10, 2, "EASY", Visibility.PUBLIC);
+            recipe.setId((long) outbox.size() + 100);
+            RecipeOutboxEvent event = new RecipeOutboxEvent(RecipeChangeType.CREATED, recipe);
+            event.setId((long) outbox.size() + 1);
+            outbox.add(event);
+        }
+    }
+
+    // Behaves like the locking query against a table the relay deletes from.
+    private void stubOutbox() {
+        when(recipeOutboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenAnswer(invocation -> {
+            Instant now = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return outbox.stream()
+                    .filter(event -> event.getClaimedUntil() == null || event.getClaimedUntil().isBefore(now))
+                    .limit(limit)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        });
+        lenient().doAnswer(invocation -> {
+            Iterable<RecipeOutboxEvent> deleted = invocation.getArgument(0);
+            deleted.forEach(outbox::remove);
+            return null;
+        }).when(recipeOutboxRepository).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    void relay_DeliversAllPendingEventsInBatches() {
+        addEvents(5);
+        stubOutbox();
+
+        relay.relay();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), consumer.deliveredEventIds());
+        assertEquals(3, consumer.batches.size());
+        assertEquals(100L, consumer.batches.get(0).get(0).getRecipeId());
+        assertEquals(RecipeChangeType.CREATED, consumer.batches.get(0).get(0).getType());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void relay_ConsumerFailure_KeepsEventsForNextRun() {
+        addEvents(3);
+        stubOutbox();
+        consumer.failing = true;
+
+        relay.relay();
+
+        assertEquals(3, outbox.size());
+        verify(recipeOutboxRepository, never()).deleteAllInBatch(anyList());
+        verify(recipeOutboxRepository).saveAll(anyList());
+        assertTrue(outbox.stream().allMatch(event -> event.getClaimedUntil() == null));
+
+        consumer.failing = false;
+        relay.relay();
+
+        assertEquals(List.of(1L, 2L, 3L), consumer.deliveredEventIds());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void relay_EmptyOutbox_PublishesNothing() {
+        stubOutbox();
+
+        relay.relay();
+
+        assertTrue(consumer.batches.isEmpty());
+    }
+
+    @Test
+    void relay_PublishesAfterClaimIsCommitted() {
+        addEvents(1);
+        stubOutbox();
+        RecipeChangePublisher publisher = events -> {
+            verify(transactionManager).commit(any());
+            assertTrue(outbox.get(0).getClaimedUntil().isAfter(Instant.now()));
+            consumer.publish(events);
+        };
+        ReflectionTestUtils.setField(relay, "recipeChangePublisher", publisher);
+
+        relay.relay();
+
+        assertEquals(List.of(1L), consumer.deliveredEventIds());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void relay_SkipsEventsClaimedByAnotherRelay() {
+        addEvents(2);
+        outbox.get(0).setClaimedUntil(Instant.now().plusSeconds(30));
+        stubOutbox();
+
+        relay.relay();
+
+        assertEquals(List.of(2L), consumer.deliveredEventIds());
+        assertEquals(1, outbox.size());
+    }
+}
@@ -0,0 +1,147 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeRatingServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeReadCache recipeReadCache;
+
+    @InjectMocks
+    private RecipeRatingService recipeRatingService;
+
+    private final String USER_ID = "user123";
+
+    private void indexAllowsVotes() {
+        when(recipeIngredientIndex.isReady()).thenReturn(true);
+        when(recipeIngredientIndex.isVisible(eq(1L), anyString())).thenReturn(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(int flushes) {
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(flushes)).batchUpdate(anyString(), batch.capture());
+        return batch.getValue();
+    }
+
+    @Test
+    void flush_WritesAggregatedVotesAsOneBatch() {
+        indexAllowsVotes();
+        recipeRatingService.rateRecipe(1L, 5, USER_ID);
+        recipeRatingService.rateRecipe(1L, 3, "otherUser");
+
+        recipeRatingService.flush();
+
+        List<Object[]> batch = captureBatch(1);
+        assertEquals(1, batch.size());
+        assertArrayEquals(new Object[] { 8L, 2L, 2L, 1L }, batch.get(0));
+        verify(recipeReadCache).evictRecipe(1L);
+        verify(recipeReadCache).evictPublicPages();
+    }
+
+    @Test
+    void flush_NothingPending_SkipsDatabase() {
+        recipeRatingService.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void flush_Failure_KeepsVotesForNextFlush() {
+        indexAllowsVotes();
+        recipeRatingService.rateRecipe(1L, 4, USER_ID);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(new int[] { 1 });
+
+        recipeRatingService.flush();
+        recipeRatingService.flush();
+
+        List<Object[]> batch = captureBatch(2);
+        assertArrayEquals(new Object[] { 4L, 1L, 1L, 1L }, batch.get(0));
+        verify(recipeReadCache, times(1)).evictRecipe(1L);
+    }
+
+    @Test
+    void rateRecipe_ConcurrentVotes_AreAllCounted() throws Exception {
+        indexAllowsVotes();
+        int threads = 8;
+        int votesPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < votesPerThread; i++) {
+                    recipeRatingService.rateRecipe(1L, 4, USER_ID);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        recipeRatingService.flush();
+
+        long votes = (long) threads * votesPerThread;
+        assertArrayEquals(new Object[] { votes * 4, votes, votes, 1L }, captureBatch(1).get(0));
+    }
+
+    @Test
+    void rateRecipe_StarsOutOfRange_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> recipeRatingService.rateRecipe(1L, 6, USER_ID));
+        assertThrows(IllegalArgumentException.class, () -> recipeRatingService.rateRecipe(1L, 0, USER_ID));
+    }
+
+    @Test
+    void rateRecipe_RecipeNotVisible_Throws() {
+        when(recipeIngredientIndex.isReady()).thenReturn(true);
+        when(recipeIngredientIndex.isVisible(2L, USER_ID)).thenReturn(false);
+
+        assertThrows(RuntimeException.class, () -> recipeRatingService.rateRecipe(2L, 4, USER_ID));
+    }
+
+    @Test
+    void rateRecipe_IndexNotReady_ChecksRepository() {
+        Recipe recipe = new Recipe("otherUser", "Soup", "Warm", 10, 2, "EASY", Visibility.PRIVATE);
+        when(recipeIngredientIndex.isReady()).thenReturn(false);
+        when(recipeRepository.findById(3L)).thenReturn(Optional.of(recipe));
+
+        assertThrows(RuntimeException.class, () -> recipeRatingService.rateRecipe(3L, 4, USER_ID));
+    }
+}
@@ -0,0 +1,85 @@
+package com.recipe.recipe_service.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RecipeReadCacheTest {
+
+    private final RecipeReadCache recipeReadCache = new RecipeReadCache(100, 100, 600, new SimpleMeterRegistry());
+
+    private RecipeResponseDTO createRecipe(Long id) {
+        RecipeResponseDTO recipe = new RecipeResponseDTO();
+        recipe.setId(id);
+        return recipe;
+    }
+
+    @Test
+    void getRecipe_ConcurrentReadersShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        RecipeResponseDTO recipe = createRecipe(1L);
+
+        CompletableFuture<RecipeResponseDTO> first = CompletableFuture.supplyAsync(() ->
+                recipeReadCache.getRecipe(1L, () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    await(release);
+                    return recipe;
+                }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<RecipeResponseDTO> second = CompletableFuture.supplyAsync(() ->
+                recipeReadCache.getRecipe(1L, () -> {
+                    loads.incrementAndGet();
+                    return createRecipe(1L);
+                }));
+        release.countDown();
+
+        assertSame(recipe, first.get(5, TimeUnit.SECONDS));
+        assertSame(recipe, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertSame(recipe, recipeReadCache.peekRecipe(1L));
+    }
+
+    @Test
+    void getRecipe_EvictionDuringLoadIsNotCached() {
+        RecipeResponseDTO result = recipeReadCache.getRecipe(1L, () -> {
+            recipeReadCache.evictRecipe(1L);
+            return createRecipe(1L);
+        });
+
+        assertEquals(1L, result.getId());
+        assertNull(recipeReadCache.peekRecipe(1L));
+    }
+
+    @Test
+    void getRecipe_NullAndFailedLoadsAreNotCached() {
+        assertNull(recipeReadCache.getRecipe(1L, () -> null));
+        assertThrows(IllegalStateException.class, () -> recipeReadCache.getRecipe(1L, () -> {
+            throw new IllegalStateException("down");
+        }));
+
+        assertEquals(1L, recipeReadCache.getRecipe(1L, () -> createRecipe(1L)).getId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,32 +2,52 @@ package com.recipe.recipe_service.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import com.recipe.recipe_service.dto.CreateRecipeRequestDTO;
+import com.recipe.recipe_service.dto.CursorPageDTO;
 import com.recipe.recipe_service.dto.PantryItem;
+import com.recipe.recipe_service.dto.RecipeIngredientDTO;
 import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.dto.RecipeSummaryDTO;
 import com.recipe.recipe_service.dto.UpdateRecipeRequestDTO;
 import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.RecipeChangeType;
+import com.recipe.recipe_service.entity.RecipeIngredient;
 import com.recipe.recipe_service.entity.Visibility;
 import com.recipe.recipe_service.mapper.RecipeMapper;
+import com.recipe.recipe_service.repository.RecipeOutboxRepository;
 import com.recipe.recipe_service.repository.RecipeRepository;
+import com.recipe.recipe_service.util.Cursors;
+import com.recipe.recipe_service.util.ETags;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class RecipeServiceTest {
@@ -41,6 +61,24 @@ class RecipeServiceTest {
     @Mock
     private RecipeMapper recipeMapper;
 
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeOutboxRepository recipeOutboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RecipeViewCounter recipeViewCounter;
+
+    @Spy
+    private RecipeMatchScorer recipeMatchScorer = new RecipeMatchScorer();
+
+    @Spy
+    private RecipeReadCache recipeReadCache = new RecipeReadCache(100, 100, 600, new SimpleMeterRegistry());
+
     @InjectMocks
     private RecipeService recipeService;
 
@@ -81,6 +119,11 @@ class RecipeServiceTest {
         return request;
     }
 
+    private void stubPantry(List<PantryItem> pantry, List<PantryItem> expiring) {
+        when(pantryServiceClient.getUserPantryAsync(USER_ID)).thenReturn(Mono.just(pantry));
+        when(pantryServiceClient.getExpiringItemsAsync(USER_ID)).thenReturn(Mono.just(expiring));
+    }
+
     @Test
     void getRecipeSuggestions_WithIngredients_ReturnsMatchingRecipes() {
         Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
@@ -90,34 +133,77 @@ class RecipeServiceTest {
         pantryItem.setName("tomato");
         List<PantryItem> pantryItems = List.of(pantryItem);
         
-        when(pantryServiceClient.getUserPantry(USER_ID)).thenReturn(pantryItems);
+        stubPantry(pantryItems, List.of());
         when(recipeRepository.findByIngredientNamesAndUser(anyList(), eq(USER_ID)))
                 .thenReturn(List.of(testRecipe));
         when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(testRecipeResponse);
 
-        List<RecipeResponseDTO> result = recipeService.getRecipeSuggestions(USER_ID);
+        List<RecipeResponseDTO> result = recipeService.getRecipeSuggestions(USER_ID, 20);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Test Recipe", result.get(0).getTitle());
-        verify(pantryServiceClient).getUserPantry(USER_ID);
+        verify(pantryServiceClient).getUserPantryAsync(USER_ID);
         verify(recipeRepository).findByIngredientNamesAndUser(List.of("tomato"), USER_ID);
     }
 
+    @Test
+    void getRecipeSuggestions_IndexReady_LoadsMatchesFromIndex() {
+        Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO testRecipeResponse = createTestRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+
+        PantryItem pantryItem = new PantryItem();
+        pantryItem.setName(" Tomato ");
+
+        stubPantry(List.of(pantryItem), List.of());
+        when(recipeIngredientIndex.isReady()).thenReturn(true);
+        when(recipeIngredientIndex.findVisibleRecipes(List.of("tomato"), USER_ID))
+                .thenReturn(List.of(RecipeIngredientIndex.IndexedRecipe.of(testRecipe)));
+        when(recipeRepository.findAllById(List.of(1L))).thenReturn(List.of(testRecipe));
+        when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(testRecipeResponse);
+
+        List<RecipeResponseDTO> result = recipeService.getRecipeSuggestions(USER_ID, 20);
+
+        assertEquals(1, result.size());
+        verify(recipeRepository, never()).findByIngredientNamesAndUser(anyList(), anyString());
+    }
+
+    @Test
+    void getRecipeSuggestions_RanksByPantryCoverage() {
+        Recipe partialMatch = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        partialMatch.addIngredient("saffron", 1.0, "pinch");
+        Recipe fullMatch = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        fullMatch.setId(2L);
+        RecipeResponseDTO fullResponse = createTestRecipeResponse(2L, "Full", USER_ID, Visibility.PUBLIC);
+
+        PantryItem pantryItem = new PantryItem();
+        pantryItem.setName("tomato");
+
+        stubPantry(List.of(pantryItem), List.of());
+        when(recipeRepository.findByIngredientNamesAndUser(anyList(), eq(USER_ID)))
+                .thenReturn(List.of(partialMatch, fullMatch));
+        when(recipeMapper.toResponseDTO(fullMatch)).thenReturn(fullResponse);
+
+        List<RecipeResponseDTO> result = recipeService.getRecipeSuggestions(USER_ID, 1);
+
+        assertEquals(1, result.size());
+        assertEquals("Full", result.get(0).getTitle());
+    }
+
     @Test
     void getRecipeSuggestions_NoIngredients_ReturnsVisibleRecipes() {
         Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
         RecipeResponseDTO testRecipeResponse = createTestRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
         
-        when(pantryServiceClient.getUserPantry(USER_ID)).thenReturn(List.of());
-        when(recipeRepository.findVisibleRecipes(USER_ID)).thenReturn(List.of(testRecipe));
+        stubPantry(List.of(), List.of());
+        when(recipeRepository.findVisibleRecipesBefore(USER_ID, Long.MAX_VALUE, PageRequest.of(0, 20))).thenReturn(List.of(testRecipe));
         when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(testRecipeResponse);
 
-        List<RecipeResponseDTO> result = recipeService.getRecipeSuggestions(USER_ID);
+        List<RecipeResponseDTO> result = recipeService.getRecipeSuggestions(USER_ID, 20);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(recipeRepository).findVisibleRecipes(USER_ID);
+        verify(recipeRepository).findVisibleRecipesBefore(USER_ID, Long.MAX_VALUE, PageRequest.of(0, 20));
         verify(recipeRepository, never()).findByIngredientNamesAndUser(anyList(), anyString());
     }
 
@@ -130,19 +216,114 @@ class RecipeServiceTest {
         expiringItem.setName("tomato");
         List<PantryItem> expiringItems = List.of(expiringItem);
         
-        when(pantryServiceClient.getExpiringItems(USER_ID)).thenReturn(expiringItems);
+        stubPantry(List.of(), expiringItems);
         when(recipeRepository.findByIngredientNamesAndUser(anyList(), eq(USER_ID)))
                 .thenReturn(List.of(testRecipe));
         when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(testRecipeResponse);
 
-        List<RecipeResponseDTO> result = recipeService.getUseItUpRecipes(USER_ID);
+        List<RecipeResponseDTO> result = recipeService.getUseItUpRecipes(USER_ID, 20);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(pantryServiceClient).getExpiringItems(USER_ID);
+        verify(pantryServiceClient).getExpiringItemsAsync(USER_ID);
         verify(recipeRepository).findByIngredientNamesAndUser(List.of("tomato"), USER_ID);
     }
 
+    @Test
+    void getPublicRecipes_MoreRowsThanPageSize_ReturnsNextCursor() {
+        Recipe newest = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        newest.setId(2L);
+        Recipe older = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO newestResponse = createTestRecipeResponse(2L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+
+        when(recipeRepository.findPublicRecipesBefore(Long.MAX_VALUE, PageRequest.of(0, 2))).thenReturn(List.of(newest, older));
+        when(recipeMapper.toResponseDTO(newest)).thenReturn(newestResponse);
+
+        CursorPageDTO<RecipeResponseDTO> page = recipeService.getPublicRecipes(null, 1);
+
+        assertEquals(List.of(newestResponse), page.getItems());
+        assertEquals(2L, Cursors.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getMyRecipes_LastPage_HasNoNextCursor() {
+        Recipe recipe = createTestRecipe(USER_ID, Visibility.PRIVATE);
+        recipe.setId(3L);
+        RecipeResponseDTO response = createTestRecipeResponse(3L, "Test Recipe", USER_ID, Visibility.PRIVATE);
+
+        when(recipeRepository.findByUserIdAndIdLessThanOrderByIdDesc(USER_ID, 4L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(recipe));
+        when(recipeMapper.toResponseDTO(recipe)).thenReturn(response);
+
+        CursorPageDTO<RecipeResponseDTO> page = recipeService.getMyRecipes(USER_ID, Cursors.encode(4L), 10);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAllRecipes_InvalidCursor_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> recipeService.getAllRecipes(USER_ID, "not-a-cursor", 10));
+    }
+
+    @Test
+    void searchRecipes_FullPage_ReturnsRankOrderAndOffsetCursor() {
+        Recipe first = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        first.setId(7L);
+        Recipe second = createTestRecipe("otherUser", Visibility.PUBLIC);
+        second.setId(3L);
+        RecipeResponseDTO firstResponse = createTestRecipeResponse(7L, "Tomato Soup", USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO secondResponse = createTestRecipeResponse(3L, "Tomato Salad", "otherUser", Visibility.PUBLIC);
+
+        when(recipeRepository.searchVisibleRecipeIds("tomato", USER_ID, 4, 3)).thenReturn(List.of(7L, 3L, 9L));
+        when(recipeRepository.findAllById(List.of(7L, 3L))).thenReturn(List.of(second, first));
+        when(recipeMapper.toResponseDTO(first)).thenReturn(firstResponse);
+        when(recipeMapper.toResponseDTO(second)).thenReturn(secondResponse);
+
+        CursorPageDTO<RecipeResponseDTO> page = recipeService.searchRecipes(" tomato ", USER_ID, Cursors.encodeOffset(4), 2);
+
+        assertEquals(List.of(7L, 3L), page.getItems().stream().map(RecipeResponseDTO::getId).toList());
+        assertEquals(6, Cursors.decodeOffset(page.getNextCursor()));
+    }
+
+    @Test
+    void searchRecipeSummaries_LoadsSummariesInRankOrder() {
+        RecipeSummaryDTO low = new RecipeSummaryDTO(3L, "Tomato Salad", null, null, 10, 2, "EASY", USER_ID, Visibility.PUBLIC, 0.0, 0, 4, 0L);
+        RecipeSummaryDTO high = new RecipeSummaryDTO(7L, "Tomato Soup", null, null, 30, 4, "EASY", USER_ID, Visibility.PUBLIC, 0.0, 0, 6, 0L);
+
+        when(recipeRepository.searchVisibleRecipeIds("tomato", USER_ID, 0, 21)).thenReturn(List.of(7L, 3L));
+        when(recipeRepository.findRecipeSummariesByIds(List.of(7L, 3L))).thenReturn(List.of(low, high));
+
+        CursorPageDTO<RecipeSummaryDTO> page = recipeService.searchRecipeSummaries("tomato", USER_ID, null, 20);
+
+        assertEquals(List.of(high, low), page.getItems());
+        assertNull(page.getNextCursor());
+        verify(recipeRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    void searchRecipes_AnonymousUser_SearchesPublicOnly() {
+        when(recipeRepository.searchVisibleRecipeIds("soup", "", 0, 21)).thenReturn(List.of());
+
+        CursorPageDTO<RecipeResponseDTO> page = recipeService.searchRecipes("soup", null, null, 20);
+
+        assertEquals(0, page.getItems().size());
+        assertNull(page.getNextCursor());
+        verify(recipeRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    void searchRecipes_BlankQuery_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> recipeService.searchRecipes("  ", USER_ID, null, 20));
+        verify(recipeRepository, never()).searchVisibleRecipeIds(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchRecipes_IdCursor_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> recipeService.searchRecipes("soup", USER_ID, Cursors.encode(10L), 20));
+    }
+
     @Test
     void getRecipeById_UserOwnsRecipe_ReturnsRecipe() {
         Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
@@ -158,6 +339,98 @@ class RecipeServiceTest {
         assertEquals(USER_ID, result.getUserId());
     }
 
+    @Test
+    void getRecipeById_SecondCall_ServedFromCache() {
+        Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO testRecipeResponse = createTestRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+
+        when(recipeRepository.findById(1L)).thenReturn(Optional.of(testRecipe));
+        when(recipeMapper.toResponseDTO(testRecipe)).thenReturn(testRecipeResponse);
+
+        recipeService.getRecipeById(1L);
+        RecipeResponseDTO result = recipeService.getRecipeById(1L);
+
+        assertEquals(1L, result.getId());
+        verify(recipeRepository, times(1)).findById(1L);
+        verify(recipeViewCounter, times(2)).record(1L);
+    }
+
+    @Test
+    void getPublicRecipes_SecondCall_ServedFromCache() {
+        Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO testRecipeResponse = createTestRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+
+        when(recipeRepository.findPublicRecipesBefore(Long.MAX_VALUE, PageRequest.of(0, 11))).thenReturn(List.of(testRecipe));
+        when(recipeMapper.toResponseDTO(testRecipe)).thenReturn(testRecipeResponse);
+
+        recipeService.getPublicRecipes(null, 10);
+        CursorPageDTO<RecipeResponseDTO> page = recipeService.getPublicRecipes("", 10);
+
+        assertEquals(1, page.getItems().size());
+        verify(recipeRepository, times(1)).findPublicRecipesBefore(Long.MAX_VALUE, PageRequest.of(0, 11));
+    }
+
+    @Test
+    void getPublicRecipeSummaries_MoreRowsThanPageSize_ReturnsNextCursor() {
+        RecipeSummaryDTO first = new RecipeSummaryDTO(1L, "First", null, null, 10, 2, "EASY", USER_ID, Visibility.PUBLIC, 0.0, 0, 2, 0L);
+        RecipeSummaryDTO second = new RecipeSummaryDTO(2L, "Second", null, null, 10, 2, "EASY", USER_ID, Visibility.PUBLIC, 0.0, 0, 2, 0L);
+
+        when(recipeRepository.findPublicRecipeSummariesBefore(Long.MAX_VALUE, PageRequest.of(0, 2))).thenReturn(List.of(second, first));
+
+        CursorPageDTO<RecipeSummaryDTO> page = recipeService.getPublicRecipeSummaries(null, 1);
+        recipeService.getPublicRecipeSummaries(null, 1);
+
+        assertEquals(List.of(second), page.getItems());
+        assertEquals(2L, Cursors.decode(page.getNextCursor()));
+        verify(recipeRepository, times(1)).findPublicRecipeSummariesBefore(Long.MAX_VALUE, PageRequest.of(0, 2));
+        verify(recipeMapper, never()).toResponseDTO(any());
+    }
+
+    @Test
+    void getMyRecipeSummaries_UsesOwnerQuery() {
+        RecipeSummaryDTO mine = new RecipeSummaryDTO(3L, "Mine", null, null, 10, 2, "EASY", USER_ID, Visibility.PRIVATE, 0.0, 0, 1, 0L);
+
+        when(recipeRepository.findRecipeSummariesByUserBefore(USER_ID, 4L, PageRequest.of(0, 11))).thenReturn(List.of(mine));
+
+        CursorPageDTO<RecipeSummaryDTO> page = recipeService.getMyRecipeSummaries(USER_ID, Cursors.encode(4L), 10);
+
+        assertEquals(List.of(mine), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getRecipeETag_NotCached_UsesVersionQuery() {
+        when(recipeRepository.findPublicRecipeVersion(1L)).thenReturn(Optional.of(3L));
+
+        assertEquals(Optional.of("\"1-3\""), recipeService.getRecipeETag(1L));
+        verify(recipeRepository, never()).findById(any());
+    }
+
+    @Test
+    void getRecipeETag_Cached_SkipsDatabase() {
+        Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO testRecipeResponse = createTestRecipeResponse(1L, "Test Recipe", USER_ID, Visibility.PUBLIC);
+        testRecipeResponse.setVersion(2L);
+
+        when(recipeRepository.findById(1L)).thenReturn(Optional.of(testRecipe));
+        when(recipeMapper.toResponseDTO(testRecipe)).thenReturn(testRecipeResponse);
+        recipeService.getRecipeById(1L);
+
+        assertEquals(Optional.of("\"1-2\""), recipeService.getRecipeETag(1L));
+        verify(recipeRepository, never()).findPublicRecipeVersion(any());
+    }
+
+    @Test
+    void getMyRecipesETag_MatchesETagOfLoadedPage() {
+        RecipeSummaryDTO mine = new RecipeSummaryDTO(5L, "Mine", null, null, 10, 2, "EASY", USER_ID, Visibility.PRIVATE, 0.0, 0, 1, 3L);
+        List<Object[]> rows = List.<Object[]>of(new Object[] { 5L, 3L });
+
+        when(recipeRepository.findRecipeVersionsByUserBefore(USER_ID, Long.MAX_VALUE, PageRequest.of(0, 11))).thenReturn(rows);
+
+        assertEquals(ETags.forPage("summary", List.of(mine), false),
+                recipeService.getMyRecipesETag(USER_ID, null, 10, "summary"));
+    }
+
     @Test
     void getRecipeById_PublicRecipeNotOwned_ReturnsRecipe() {
         Recipe testRecipe = createTestRecipe(OTHER_USER_ID, Visibility.PUBLIC);
@@ -189,6 +462,63 @@ class RecipeServiceTest {
         RecipeResponseDTO result = recipeService.getRecipeById(1L);
 
         assertNull(result);
+        verify(recipeViewCounter, never()).record(anyLong());
+    }
+
+    @Test
+    void getRecipesByIds_KeepsRequestedOrderAndVisibility() {
+        Recipe mine = createTestRecipe(USER_ID, Visibility.PRIVATE);
+        mine.setId(1L);
+        Recipe publicRecipe = createTestRecipe(OTHER_USER_ID, Visibility.PUBLIC);
+        publicRecipe.setId(2L);
+        Recipe othersPrivate = createTestRecipe(OTHER_USER_ID, Visibility.PRIVATE);
+        othersPrivate.setId(3L);
+
+        when(recipeRepository.findAllById(List.of(2L, 3L, 1L, 4L))).thenReturn(List.of(mine, publicRecipe, othersPrivate));
+        when(recipeMapper.toResponseDTO(mine)).thenReturn(createTestRecipeResponse(1L, "Mine", USER_ID, Visibility.PRIVATE));
+        when(recipeMapper.toResponseDTO(publicRecipe)).thenReturn(createTestRecipeResponse(2L, "Public", OTHER_USER_ID, Visibility.PUBLIC));
+
+        List<RecipeResponseDTO> result = recipeService.getRecipesByIds(List.of(2L, 3L, 1L, 2L, 4L), USER_ID);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(RecipeResponseDTO::getId).toList());
+        verify(recipeMapper, never()).toResponseDTO(othersPrivate);
+    }
+
+    @Test
+    void getRecipesByIds_WithoutUser_ReturnsPublicOnly() {
+        Recipe mine = createTestRecipe(USER_ID, Visibility.PRIVATE);
+
+        when(recipeRepository.findAllById(List.of(1L))).thenReturn(List.of(mine));
+
+        assertEquals(List.of(), recipeService.getRecipesByIds(List.of(1L), null));
+    }
+
+    @Test
+    void getRecipesByIds_CachedRecipes_OnlyLoadsMisses() {
+        Recipe cachedRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        RecipeResponseDTO cachedResponse = createTestRecipeResponse(1L, "Cached", USER_ID, Visibility.PUBLIC);
+        when(recipeRepository.findById(1L)).thenReturn(Optional.of(cachedRecipe));
+        when(recipeMapper.toResponseDTO(cachedRecipe)).thenReturn(cachedResponse);
+        recipeService.getRecipeById(1L);
+
+        Recipe loaded = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        loaded.setId(2L);
+        when(recipeRepository.findAllById(List.of(2L))).thenReturn(List.of(loaded));
+        when(recipeMapper.toResponseDTO(loaded)).thenReturn(createTestRecipeResponse(2L, "Loaded", USER_ID, Visibility.PUBLIC));
+
+        List<RecipeResponseDTO> result = recipeService.getRecipesByIds(List.of(1L, 2L), null);
+
+        assertEquals(List.of("Cached", "Loaded"), result.stream().map(RecipeResponseDTO::getTitle).toList());
+        verify(recipeRepository).findAllById(List.of(2L));
+    }
+
+    @Test
+    void getRecipesByIds_TooManyIds_Throws() {
+        List<Long> ids = LongStream.rangeClosed(1, RecipeService.MAX_BATCH_IDS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> recipeService.getRecipesByIds(ids, USER_ID));
+        assertThrows(IllegalArgumentException.class, () -> recipeService.getRecipesByIds(List.of(), USER_ID));
+        verify(recipeRepository, never()).findAllById(anyList());
     }
 
     @Test
@@ -206,9 +536,20 @@ class RecipeServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         verify(recipeRepository).save(testRecipe);
+        verify(recipeIngredientIndex).index(testRecipe);
+        verify(recipeOutboxRepository).save(argThat(event -> event.getType() == RecipeChangeType.CREATED));
+        verify(eventPublisher).publishEvent(new RecipeCreatedEvent(testRecipe));
         assertEquals(USER_ID, testRecipe.getUserId());
     }
 
+    @Test
+    void onPantryChanged_EvictsPantryAndNotifiesStreams() {
+        recipeService.onPantryChanged(USER_ID);
+
+        verify(pantryServiceClient).evictPantry(USER_ID);
+        verify(eventPublisher).publishEvent(new PantryChangedEvent(USER_ID));
+    }
+
     @Test
     void updateRecipe_UserOwnsRecipe_Success() {
         UpdateRecipeRequestDTO testUpdateRequest = createTestUpdateRequest();
@@ -224,6 +565,33 @@ class RecipeServiceTest {
         assertNotNull(result);
         verify(recipeMapper).updateEntityFromRequest(testUpdateRequest, testRecipe);
         verify(recipeRepository).save(testRecipe);
+        verify(recipeReadCache).evictRecipe(1L);
+        verify(recipeReadCache).evictPublicPages();
+        verify(recipeOutboxRepository).save(argThat(event -> event.getType() == RecipeChangeType.UPDATED));
+    }
+
+    @Test
+    void updateRecipe_EditsCollectionsInPlace() {
+        UpdateRecipeRequestDTO testUpdateRequest = createTestUpdateRequest();
+        testUpdateRequest.setIngredients(List.of(new RecipeIngredientDTO("tomato", 2.0, "pieces")));
+        testUpdateRequest.setInstructions(List.of("Chop", "Serve"));
+        Recipe testRecipe = createTestRecipe(USER_ID, Visibility.PUBLIC);
+        testRecipe.addInstruction("Rest");
+        testRecipe.addInstruction("Plate");
+        List<RecipeIngredient> ingredients = testRecipe.getIngredients();
+        List<String> instructions = testRecipe.getInstructions();
+
+        when(recipeRepository.findByIdAndUserId(1L, USER_ID)).thenReturn(Optional.of(testRecipe));
+        when(recipeMapper.toIngredients(testUpdateRequest.getIngredients()))
+                .thenReturn(List.of(new RecipeIngredient("tomato", 2.0, "pieces")));
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(testRecipe);
+
+        recipeService.updateRecipe(1L, testUpdateRequest, USER_ID);
+
+        assertSame(ingredients, testRecipe.getIngredients());
+        assertSame(instructions, testRecipe.getInstructions());
+        assertEquals(List.of(new RecipeIngredient("tomato", 2.0, "pieces")), ingredients);
+        assertEquals(List.of("Chop", "Serve"), instructions);
     }
 
     @Test
@@ -245,6 +613,9 @@ class RecipeServiceTest {
         recipeService.deleteRecipe(1L, USER_ID);
 
         verify(recipeRepository).delete(testRecipe);
+        verify(recipeIngredientIndex).remove(1L);
+        verify(recipeReadCache).evictRecipe(1L);
+        verify(recipeOutboxRepository).save(argThat(event -> event.getType() == RecipeChangeType.DELETED));
     }
 
     @Test
@@ -255,5 +626,6 @@ class RecipeServiceTest {
             recipeService.deleteRecipe(1L, USER_ID));
         
         assertEquals("Recipe not found or you don't have permission to delete it", exception.getMessage());
+        verify(recipeOutboxRepository, never()).save(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.recipe.recipe_service.service;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.recipe.recipe_service.dto.PantryItem;
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.entity.Visibility;
+import com.recipe.recipe_service.mapper.RecipeMapper;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeSuggestionStreamsTest {
+
+    @Mock
+    private RecipeService recipeService;
+
+    @Mock
+    private PantryServiceClient pantryServiceClient;
+
+    @Mock
+    private RecipeMapper recipeMapper;
+
+    @Spy
+    private RecipeMatchScorer recipeMatchScorer = new RecipeMatchScorer();
+
+    @Spy
+    @InjectMocks
+    private RecipeSuggestionStreams streams;
+
+    private final String USER_ID = "user123";
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(recipeService.getRecipeSuggestions(any(), anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        streams.shutdown();
+    }
+
+    private SseEmitter openStream(String userId) {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(streams).newEmitter();
+        streams.subscribe(userId);
+        return emitter;
+    }
+
+    private PantryItem pantryItem(String name) {
+        PantryItem item = new PantryItem();
+        item.setName(name);
+        return item;
+    }
+
+    private void stubPantry(String userId, String... names) {
+        when(pantryServiceClient.getUserPantryAsync(userId))
+                .thenReturn(Mono.just(Arrays.stream(names).map(this::pantryItem).toList()));
+        when(pantryServiceClient.getExpiringItemsAsync(userId)).thenReturn(Mono.just(List.of()));
+    }
+
+    private Recipe recipe(Visibility visibility, String... ingredients) {
+        Recipe recipe = new Recipe("author", "New Recipe", "Description", 10, 2, "EASY", visibility);
+        recipe.setId(42L);
+        for (String ingredient : ingredients) {
+            recipe.addIngredient(ingredient, 1.0, "piece");
+        }
+        return recipe;
+    }
+
+    @Test
+    void subscribe_SendsCurrentSuggestions() throws Exception {
+        SseEmitter emitter = openStream(USER_ID);
+
+        verify(emitter, timeout(1000)).send(any(SseEventBuilder.class));
+        verify(recipeService).getRecipeSuggestions(USER_ID, 10);
+        assertEquals(1, streams.openStreams());
+    }
+
+    @Test
+    void subscribe_OverConnectionLimit_Throws() {
+        ReflectionTestUtils.setField(streams, "maxConnections", 1);
+        openStream(USER_ID);
+
+        assertThrows(IllegalStateException.class, () -> streams.subscribe("otherUser"));
+        assertEquals(1, streams.openStreams());
+    }
+
+    @Test
+    void onRecipeCreated_MatchingPantry_PushesRecipe() throws Exception {
+        SseEmitter emitter = openStream(USER_ID);
+        verify(emitter, timeout(1000)).send(any(SseEventBuilder.class));
+        stubPantry(USER_ID, "Tomatoes");
+        when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(new RecipeResponseDTO());
+
+        streams.onRecipeCreated(new RecipeCreatedEvent(recipe(Visibility.PUBLIC, "tomato", "basil")));
+
+        verify(emitter, timeout(1000).times(2)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    void onRecipeCreated_NoOverlap_PushesNothing() throws Exception {
+        SseEmitter emitter = openStream(USER_ID);
+        verify(emitter, timeout(1000)).send(any(SseEventBuilder.class));
+        stubPantry(USER_ID, "rice");
+        when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(new RecipeResponseDTO());
+
+        streams.onRecipeCreated(new RecipeCreatedEvent(recipe(Visibility.PUBLIC, "tomato")));
+
+        Thread.sleep(100);
+        verify(emitter, times(1)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    void onRecipeCreated_BoundsConcurrentPantryFetches() throws Exception {
+        ReflectionTestUtils.setField(streams, "matchConcurrency", 2);
+        for (String userId : List.of("user1", "user2", "user3")) {
+            openStream(userId);
+            lenient().when(pantryServiceClient.getUserPantryAsync(userId)).thenReturn(Mono.never());
+            lenient().when(pantryServiceClient.getExpiringItemsAsync(userId)).thenReturn(Mono.never());
+        }
+        when(recipeMapper.toResponseDTO(any(Recipe.class))).thenReturn(new RecipeResponseDTO());
+
+        streams.onRecipeCreated(new RecipeCreatedEvent(recipe(Visibility.PUBLIC, "tomato")));
+
+        verify(pantryServiceClient, timeout(1000).times(2)).getUserPantryAsync(any());
+        Thread.sleep(100);
+        verify(pantryServiceClient, times(2)).getUserPantryAsync(any());
+    }
+
+    @Test
+    void onRecipeCreated_PrivateRecipe_IsIgnored() {
+        openStream(USER_ID);
+
+        streams.onRecipeCreated(new RecipeCreatedEvent(recipe(Visibility.PRIVATE, "tomato")));
+
+        verify(pantryServiceClient, never()).getUserPantryAsync(any());
+    }
+
+    @Test
+    void onPantryChanged_RecomputesSuggestionsForConnectedUser() throws Exception {
+        SseEmitter emitter = openStream(USER_ID);
+
+        streams.onPantryChanged(new PantryChangedEvent(USER_ID));
+        streams.onPantryChanged(new PantryChangedEvent("notConnected"));
+
+        verify(emitter, timeout(1000).times(2)).send(any(SseEventBuilder.class));
+        verify(recipeService, timeout(1000).times(2)).getRecipeSuggestions(USER_ID, 10);
+        verify(recipeService, never()).getRecipeSuggestions("notConnected", 10);
+    }
+
+    @Test
+    void heartbeat_DropsStreamsThatCannotBeWritten() throws Exception {
+        SseEmitter emitter = openStream(USER_ID);
+        verify(emitter, timeout(1000)).send(any(SseEventBuilder.class));
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEventBuilder.class));
+
+        streams.heartbeat();
+
+        verify(emitter, timeout(1000)).completeWithError(any());
+        assertEquals(0, streams.openStreams());
+    }
+}
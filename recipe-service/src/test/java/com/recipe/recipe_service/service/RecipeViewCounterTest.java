@@ -0,0 +1,141 @@
+package com.recipe.recipe_service.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RecipeViewCounter recipeViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recipeViewCounter = new RecipeViewCounter(4, meterRegistry);
+        ReflectionTestUtils.setField(recipeViewCounter, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(int flushes) {
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(flushes)).batchUpdate(anyString(), batch.capture());
+        return batch.getValue();
+    }
+
+    private double dropped() {
+        return meterRegistry.counter("recipe.views.dropped").count();
+    }
+
+    @Test
+    void flush_WritesAggregatedViewsAsOneBatch() {
+        recipeViewCounter.record(1L);
+        recipeViewCounter.record(1L);
+        recipeViewCounter.record(2L);
+
+        recipeViewCounter.flush();
+
+        List<Object[]> batch = captureBatch(1);
+        assertEquals(2, batch.size());
+        double decaySeconds = recipeViewCounter.decaySeconds();
+        assertTrue(batch.stream().anyMatch(row -> Arrays.equals(row, new Object[] { 1L, 2L, 2L, decaySeconds })));
+        assertTrue(batch.stream().anyMatch(row -> Arrays.equals(row, new Object[] { 2L, 1L, 1L, decaySeconds })));
+    }
+
+    @Test
+    void flush_NothingRecorded_SkipsDatabase() {
+        recipeViewCounter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void flush_Failure_KeepsViewsForNextFlush() {
+        recipeViewCounter.record(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[] { 1 });
+
+        recipeViewCounter.flush();
+        recipeViewCounter.record(1L);
+        recipeViewCounter.flush();
+
+        assertArrayEquals(new Object[] { 1L, 2L, 2L, recipeViewCounter.decaySeconds() }, captureBatch(2).get(0));
+    }
+
+    @Test
+    void flush_RepeatedFailures_DropsOldestPendingRecipesOverLimit() {
+        ReflectionTestUtils.setField(recipeViewCounter, "maxPending", 2);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        recipeViewCounter.record(1L);
+        recipeViewCounter.record(1L);
+        recipeViewCounter.flush();
+        recipeViewCounter.record(2L);
+        recipeViewCounter.flush();
+        recipeViewCounter.record(3L);
+        recipeViewCounter.flush();
+
+        assertEquals(Map.of(2L, 1L, 3L, 1L), recipeViewCounter.pendingViews());
+        assertEquals(2.0, dropped());
+    }
+
+    @Test
+    void record_FullBufferDropsViewsUntilDrained() {
+        for (int i = 0; i < 6; i++) {
+            recipeViewCounter.record(1L);
+        }
+
+        assertEquals(Map.of(1L, 4L), recipeViewCounter.pendingViews());
+        assertEquals(2.0, dropped());
+
+        recipeViewCounter.record(1L);
+        assertEquals(Map.of(1L, 5L), recipeViewCounter.pendingViews());
+    }
+
+    @Test
+    void record_ConcurrentViewsAreCountedOrDropped() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    recipeViewCounter.record(1L + j % 3);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        long counted = recipeViewCounter.pendingViews().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(8000, counted + (long) dropped());
+    }
+}
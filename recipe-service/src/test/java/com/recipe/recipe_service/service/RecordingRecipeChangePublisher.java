@@ -0,0 +1,25 @@
+package com.recipe.recipe_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.recipe.recipe_service.dto.RecipeChangeEventDTO;
+
+// Stand-in downstream consumer: keeps every delivered batch and can be told to reject deliveries.
+class RecordingRecipeChangePublisher implements RecipeChangePublisher {
+
+    final List<List<RecipeChangeEventDTO>> batches = new ArrayList<>();
+    boolean failing;
+
+    @Override
+    public void publish(List<RecipeChangeEventDTO> events) {
+        if (failing) {
+            throw new IllegalStateException("consumer unavailable");
+        }
+        batches.add(List.copyOf(events));
+    }
+
+    List<Long> deliveredEventIds() {
+        return batches.stream().flatMap(List::stream).map(RecipeChangeEventDTO::getEventId).toList();
+    }
+}
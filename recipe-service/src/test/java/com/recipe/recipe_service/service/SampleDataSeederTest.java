@@ -0,0 +1,76 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import com.recipe.recipe_service.entity.Recipe;
+import com.recipe.recipe_service.repository.RecipeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SampleDataSeederTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeReadCache recipeReadCache;
+
+    @InjectMocks
+    private SampleDataSeeder sampleDataSeeder;
+
+    @Test
+    void onReadinessChanged_EmptyDatabase_SeedsAndIndexesOnce() {
+        List<Recipe> samples = SampleDataSeeder.sampleRecipes();
+        when(recipeRepository.count()).thenReturn(0L);
+        when(recipeRepository.saveAll(anyList())).thenReturn(samples);
+
+        sampleDataSeeder.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        sampleDataSeeder.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verify(recipeRepository, times(1)).saveAll(anyList());
+        verify(recipeIngredientIndex, times(samples.size())).index(any());
+        verify(recipeReadCache).evictPublicPages();
+    }
+
+    @Test
+    void onReadinessChanged_ExistingData_SkipsSeeding() {
+        when(recipeRepository.count()).thenReturn(3L);
+
+        sampleDataSeeder.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verify(recipeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void onReadinessChanged_RefusingTraffic_DoesNothing() {
+        sampleDataSeeder.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+
+        verify(recipeRepository, never()).count();
+    }
+
+    @Test
+    void sampleRecipes_AllHaveIngredients() {
+        List<Recipe> samples = SampleDataSeeder.sampleRecipes();
+
+        assertEquals(7, samples.size());
+        samples.forEach(recipe -> assertFalse(recipe.getIngredients().isEmpty()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.recipe.recipe_service.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.recipe.recipe_service.dto.RecipeResponseDTO;
+import com.recipe.recipe_service.repository.RecipeViewCountRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingRecipesTest {
+
+    @Mock
+    private RecipeViewCountRepository recipeViewCountRepository;
+
+    @Mock
+    private RecipeViewCounter recipeViewCounter;
+
+    @Mock
+    private RecipeService recipeService;
+
+    @InjectMocks
+    private TrendingRecipes trendingRecipes;
+
+    private RecipeResponseDTO createRecipe(Long id) {
+        RecipeResponseDTO recipe = new RecipeResponseDTO();
+        recipe.setId(id);
+        return recipe;
+    }
+
+    @Test
+    void refresh_KeepsTopRecipesThatAreStillPublic() {
+        ReflectionTestUtils.setField(trendingRecipes, "trendingSize", 2);
+        when(recipeViewCountRepository.findTrendingRecipeIds(anyDouble(), anyInt())).thenReturn(List.of(3L, 1L, 2L, 4L));
+        when(recipeService.getRecipesByIds(List.of(3L, 1L, 2L, 4L), null))
+                .thenReturn(List.of(createRecipe(3L), createRecipe(2L), createRecipe(4L)));
+
+        trendingRecipes.refresh();
+
+        assertEquals(List.of(3L, 2L), trendingRecipes.getTrending(10).stream().map(RecipeResponseDTO::getId).toList());
+        assertEquals(List.of(3L), trendingRecipes.getTrending(1).stream().map(RecipeResponseDTO::getId).toList());
+    }
+
+    @Test
+    void refresh_Failure_KeepsPreviousRanking() {
+        when(recipeViewCountRepository.findTrendingRecipeIds(anyDouble(), anyInt())).thenReturn(List.of(1L));
+        when(recipeService.getRecipesByIds(List.of(1L), null)).thenReturn(List.of(createRecipe(1L)));
+        trendingRecipes.refresh();
+
+        when(recipeViewCountRepository.findTrendingRecipeIds(anyDouble(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        trendingRecipes.refresh();
+
+        assertEquals(1, trendingRecipes.getTrending(10).size());
+    }
+}
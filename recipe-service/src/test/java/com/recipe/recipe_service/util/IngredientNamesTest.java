@@ -0,0 +1,47 @@
+package com.recipe.recipe_service.util;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+class IngredientNamesTest {
+
+    @Test
+    void normalize_TrimsLowercasesAndSingularizes() {
+        assertEquals("tomato", IngredientNames.normalize("  Tomatoes "));
+        assertEquals("onion", IngredientNames.normalize("ONIONS"));
+        assertEquals("berry", IngredientNames.normalize("berries"));
+        assertEquals("peach", IngredientNames.normalize("peaches"));
+        assertEquals("leaf", IngredientNames.normalize("leaves"));
+        assertEquals("cheese", IngredientNames.normalize("cheeses"));
+    }
+
+    @Test
+    void normalize_OnlySingularizesLastWord() {
+        assertEquals("cherry tomato", IngredientNames.normalize("Cherry   Tomatoes"));
+        assertEquals("brussels sprout", IngredientNames.normalize("brussels sprouts"));
+    }
+
+    @Test
+    void normalize_LeavesSingularAndUncountableWordsAlone() {
+        assertEquals("garlic", IngredientNames.normalize("garlic"));
+        assertEquals("asparagus", IngredientNames.normalize("Asparagus"));
+        assertEquals("hummus", IngredientNames.normalize("hummus"));
+        assertEquals("bass", IngredientNames.normalize("bass"));
+        assertEquals("egg", IngredientNames.normalize("egg"));
+    }
+
+    @Test
+    void normalize_BlankName_ReturnsNull() {
+        assertNull(IngredientNames.normalize(null));
+        assertNull(IngredientNames.normalize("   "));
+    }
+
+    @Test
+    void normalizeAll_DropsBlanksAndDuplicates() {
+        assertEquals(List.of("tomato", "basil"),
+                IngredientNames.normalizeAll(List.of("Tomato", "tomatoes", " ", "Basil")));
+    }
+}